@@ -0,0 +1,179 @@
+package com.codeborne.selenide.logevents;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import java.util.function.Supplier;
+
+/**
+ * Java Flight Recorder events.
+ *
+ * This class is loaded by {@link SelenideFlightRecorder} only if JVM supports JFR.
+ * It's compiled separately from main sources (see "gradle/jfr.gradle"), and only by JDK that has {@code jdk.jfr}.
+ * Every event is allocated only if it's enabled in the current recording.
+ */
+class JdkFlightRecorder implements SelenideFlightRecorder.Recorder {
+  @Override
+  public FlightRecording beginStep(String element, String subject) {
+    StepEvent event = new StepEvent();
+    if (!event.isEnabled()) return FlightRecording.NONE;
+
+    event.element = element;
+    event.subject = subject;
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public FlightRecording beginWait(Supplier<String> element, String subject) {
+    WaitEvent event = new WaitEvent();
+    if (!event.isEnabled()) return FlightRecording.NONE;
+
+    event.element = element.get();
+    event.subject = subject;
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public FlightRecording beginScreenshot(String target) {
+    ScreenshotEvent event = new ScreenshotEvent();
+    if (!event.isEnabled()) return FlightRecording.NONE;
+
+    event.target = target;
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public FlightRecording beginDriverCreation(String browser) {
+    DriverCreationEvent event = new DriverCreationEvent();
+    if (!event.isEnabled()) return FlightRecording.NONE;
+
+    event.browser = browser;
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public FlightRecording beginDownload(String element) {
+    DownloadEvent event = new DownloadEvent();
+    if (!event.isEnabled()) return FlightRecording.NONE;
+
+    event.element = element;
+    event.begin();
+    return event;
+  }
+
+  @Name("com.codeborne.selenide.Step")
+  @Label("Selenide Step")
+  @Category("Selenide")
+  @Description("Selenide action or check, as reported to SelenideLogger")
+  static class StepEvent extends Event implements FlightRecording {
+    @Label("Element") String element;
+    @Label("Subject") String subject;
+    @Label("Status") String status;
+
+    @Override
+    public FlightRecording status(String status) {
+      this.status = status;
+      return this;
+    }
+
+    @Override
+    public FlightRecording polling(WaitStatistics statistics) {
+      return this;
+    }
+  }
+
+  @Name("com.codeborne.selenide.Wait")
+  @Label("Selenide Wait")
+  @Category("Selenide")
+  @Description("Polling loop of a command or a collection check")
+  static class WaitEvent extends Event implements FlightRecording {
+    @Label("Element") String element;
+    @Label("Subject") String subject;
+    @Label("Status") String status;
+    @Label("Attempts") int attempts;
+    @Label("Sleep Time") @Timespan(Timespan.MILLISECONDS) long sleepMs;
+    @Label("Driver Time") @Timespan(Timespan.MILLISECONDS) long driverMs;
+    @Label("Condition Time") @Timespan(Timespan.MILLISECONDS) long conditionMs;
+
+    @Override
+    public FlightRecording status(String status) {
+      this.status = status;
+      return this;
+    }
+
+    @Override
+    public FlightRecording polling(WaitStatistics statistics) {
+      attempts = statistics.getAttempts();
+      sleepMs = statistics.getSleepMs();
+      driverMs = statistics.getDriverMs();
+      conditionMs = statistics.getConditionMs();
+      return this;
+    }
+  }
+
+  @Name("com.codeborne.selenide.Screenshot")
+  @Label("Selenide Screenshot")
+  @Category("Selenide")
+  static class ScreenshotEvent extends Event implements FlightRecording {
+    @Label("Target") String target;
+    @Label("Status") String status;
+
+    @Override
+    public FlightRecording status(String status) {
+      this.status = status;
+      return this;
+    }
+
+    @Override
+    public FlightRecording polling(WaitStatistics statistics) {
+      return this;
+    }
+  }
+
+  @Name("com.codeborne.selenide.DriverCreation")
+  @Label("Selenide Webdriver Creation")
+  @Category("Selenide")
+  static class DriverCreationEvent extends Event implements FlightRecording {
+    @Label("Browser") String browser;
+    @Label("Status") String status;
+
+    @Override
+    public FlightRecording status(String status) {
+      this.status = status;
+      return this;
+    }
+
+    @Override
+    public FlightRecording polling(WaitStatistics statistics) {
+      return this;
+    }
+  }
+
+  @Name("com.codeborne.selenide.Download")
+  @Label("Selenide File Download")
+  @Category("Selenide")
+  @Description("Downloading file via Selenide proxy server")
+  static class DownloadEvent extends Event implements FlightRecording {
+    @Label("Element") String element;
+    @Label("Status") String status;
+
+    @Override
+    public FlightRecording status(String status) {
+      this.status = status;
+      return this;
+    }
+
+    @Override
+    public FlightRecording polling(WaitStatistics statistics) {
+      return this;
+    }
+  }
+}
@@ -9,12 +9,22 @@ import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.internal.Locatable;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
 import static com.codeborne.selenide.Selenide.getFocusedElement;
+import static java.util.Arrays.asList;
 
 /**
  * Conditions to match web elements: checks for visibility, text etc.
  */
 public abstract class Condition implements Predicate<WebElement> {
+  private static final String VISIBLE_JS = "__selenide.isVisible(e)";
+  private static final String SELECTED_JS = "!!(e.selected || e.checked)";
+  private static final Set<String> PROPERTY_LIKE_ATTRIBUTES = new HashSet<>(asList("href", "src", "style",
+      "checked", "selected", "disabled", "readonly", "required", "multiple", "hidden", "autofocus", "async", "defer"));
+
   /**
    * Checks if element is visible
    *
@@ -25,6 +35,11 @@ public abstract class Condition implements Predicate<WebElement> {
     public boolean apply(WebElement element) {
       return element.isDisplayed();
     }
+
+    @Override
+    public String toJavaScript() {
+      return VISIBLE_JS;
+    }
   };
 
   /**
@@ -43,6 +58,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return false;
       }
     }
+
+    @Override
+    public String toJavaScript() {
+      return "true";
+    }
   };
 
   /**
@@ -71,6 +91,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return true;
       }
     }
+
+    @Override
+    public String toJavaScript() {
+      return "!(" + VISIBLE_JS + ")";
+    }
   };
 
   /**
@@ -168,6 +193,10 @@ public abstract class Condition implements Predicate<WebElement> {
         return element.getAttribute(attributeName) != null;
       }
       @Override
+      public String toJavaScript() {
+        return isPropertyLikeAttribute(attributeName) ? null : "e.hasAttribute(" + jsString(attributeName) + ")";
+      }
+      @Override
       public String toString() {
         return name + " " + attributeName;
       }
@@ -187,12 +216,27 @@ public abstract class Condition implements Predicate<WebElement> {
         return expectedAttributeValue.equals(getAttributeValue(element, attributeName));
       }
       @Override
+      public String toJavaScript() {
+        if ("value".equals(attributeName)) {
+          return "('value' in e ? String(e.value) : (e.getAttribute('value') || '')) == " + jsString(expectedAttributeValue);
+        }
+        return isPropertyLikeAttribute(attributeName) ? null :
+            "(e.getAttribute(" + jsString(attributeName) + ") || '') == " + jsString(expectedAttributeValue);
+      }
+      @Override
       public String toString() {
         return name + " " + attributeName + '=' + expectedAttributeValue;
       }
     };
   }
 
+  /**
+   * Webdriver returns property (not attribute) value for these attributes, so they are checked only by webdriver
+   */
+  private static boolean isPropertyLikeAttribute(String attributeName) {
+    return PROPERTY_LIKE_ATTRIBUTES.contains(attributeName.toLowerCase());
+  }
+
   private static String getAttributeValue(WebElement element, String attributeName) {
     String attr = element.getAttribute(attributeName);
     return attr == null ? "" : attr;
@@ -288,9 +332,11 @@ public abstract class Condition implements Predicate<WebElement> {
    */
   public static Condition matchText(final String regex) {
     return new Condition("match text") {
+      private final Pattern pattern = Html.text.pattern(regex);
+
       @Override
       public boolean apply(WebElement element) {
-        return Html.text.matches(element.getText(), regex);
+        return Html.text.matches(element.getText(), pattern);
       }
       @Override
       public String toString() {
@@ -429,6 +475,10 @@ public abstract class Condition implements Predicate<WebElement> {
         return hasClass(element, cssClass);
       }
       @Override
+      public String toJavaScript() {
+        return "(e.getAttribute('class') || '').split(' ').indexOf(" + jsString(cssClass) + ") >= 0";
+      }
+      @Override
       public String toString() {
         return name + " '" + cssClass + '\'';
       }
@@ -450,6 +500,10 @@ public abstract class Condition implements Predicate<WebElement> {
           "Focused focusedElement: " + Describe.describe(focusedElement) +
           ", current focusedElement: " + Describe.describe(webElement);
     }
+
+    @Override public String toJavaScript() {
+      return "e === document.activeElement";
+    }
   };
 
   /**
@@ -464,6 +518,10 @@ public abstract class Condition implements Predicate<WebElement> {
     @Override public String actualValue(WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
     }
+
+    @Override public String toJavaScript() {
+      return "!e.matches(':disabled')";
+    }
   };
 
   /**
@@ -478,6 +536,10 @@ public abstract class Condition implements Predicate<WebElement> {
     @Override public String actualValue(WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
     }
+
+    @Override public String toJavaScript() {
+      return "e.matches(':disabled')";
+    }
   };
 
   /**
@@ -492,6 +554,10 @@ public abstract class Condition implements Predicate<WebElement> {
     @Override public String actualValue(WebElement element) {
       return String.valueOf(element.isSelected());
     }
+
+    @Override public String toJavaScript() {
+      return SELECTED_JS;
+    }
   };
 
   /**
@@ -506,6 +572,10 @@ public abstract class Condition implements Predicate<WebElement> {
     @Override public String actualValue(WebElement element) {
       return String.valueOf(element.isSelected());
     }
+
+    @Override public String toJavaScript() {
+      return SELECTED_JS;
+    }
   };
 
   /**
@@ -526,6 +596,12 @@ public abstract class Condition implements Predicate<WebElement> {
       public String actualValue(WebElement element) {
         return condition.actualValue(element);
       }
+
+      @Override
+      public String toJavaScript() {
+        String js = condition.toJavaScript();
+        return js == null ? null : "!(" + js + ")";
+      }
     };
   }
 
@@ -555,6 +631,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return lastFailedCondition == null ? null : lastFailedCondition.actualValue(element);
       }
 
+      @Override
+      public String toJavaScript() {
+        return joinJavaScript(" && ", condition);
+      }
+
       @Override
       public String toString() {
         return lastFailedCondition == null ? super.toString() : lastFailedCondition.toString();
@@ -590,6 +671,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return firstFailedCondition == null ? null : firstFailedCondition.actualValue(element);
       }
 
+      @Override
+      public String toJavaScript() {
+        return joinJavaScript(" || ", condition);
+      }
+
       @Override
       public String toString() {
         return firstFailedCondition == null ? super.toString() : firstFailedCondition.toString();
@@ -597,6 +683,16 @@ public abstract class Condition implements Predicate<WebElement> {
     };
   }
 
+  private static String joinJavaScript(String operator, Condition... conditions) {
+    StringBuilder js = new StringBuilder();
+    for (Condition c : conditions) {
+      String predicate = c.toJavaScript();
+      if (predicate == null) return null;
+      js.append(js.length() == 0 ? "" : operator).append('(').append(predicate).append(')');
+    }
+    return js.length() == 0 ? "true" : js.toString();
+  }
+
   /**
    * Used to form human-readable condition expression
    * Example element.should(be(visible),have(text("abc"))
@@ -629,6 +725,11 @@ public abstract class Condition implements Predicate<WebElement> {
         return delegate.actualValue(element);
       }
 
+      @Override
+      public String toJavaScript() {
+        return delegate.toJavaScript();
+      }
+
       @Override
       public String toString() {
         return prefix + ' ' + delegate.toString();
@@ -656,6 +757,11 @@ public abstract class Condition implements Predicate<WebElement> {
       return delegate.actualValue(element);
     }
 
+    @Override
+    public String toJavaScript() {
+      return delegate.toJavaScript();
+    }
+
     @Override
     public String toString() {
       return delegate.toString() + " (because " + message + ")";
@@ -699,6 +805,37 @@ public abstract class Condition implements Predicate<WebElement> {
     return null;
   }
 
+  /**
+   * JavaScript expression which checks the same condition for DOM element {@code e} in browser.
+   * Used to filter collections in browser (see {@link Configuration#filterCollectionsInBrowser}).
+   *
+   * @return JavaScript boolean expression, or null if the condition can be checked only by webdriver (default)
+   * @since Selenide 4.11.3
+   */
+  public String toJavaScript() {
+    return null;
+  }
+
+  /**
+   * @return JavaScript string literal with given value, to be used in {@link #toJavaScript()}
+   * @since Selenide 4.11.3
+   */
+  protected static String jsString(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 2).append('\'');
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '\\': sb.append("\\\\"); break;
+        case '\'': sb.append("\\'"); break;
+        case '\n': sb.append("\\n"); break;
+        case '\r': sb.append("\\r"); break;
+        case '\u2028': sb.append("\\u2028"); break;
+        case '\u2029': sb.append("\\u2029"); break;
+        default: sb.append(c);
+      }
+    }
+    return sb.append('\'').toString();
+  }
+
   /**
    * Should be used for explaining the reason of condition
    */
@@ -1,5 +1,6 @@
 package com.codeborne.selenide;
 
+import java.io.File;
 import java.util.logging.Logger;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
@@ -40,6 +41,38 @@ public class Configuration {
    */
   public static long pollingInterval = Long.parseLong(System.getProperty("selenide.pollingInterval", "100"));
 
+  /**
+   * If positive, waiting for an element stops before {@link #timeout} when the page has been idle for this number of milliseconds:
+   * the document is loaded, there are no pending XHR/fetch requests and running animations, and DOM has not changed.
+   * Such a page cannot satisfy the condition anymore, so a failing check fails faster.
+   *
+   * Changes made by timers (setTimeout) after a long pause are not detected,
+   * so the value should be longer than such pauses in the application under test.
+   *
+   * Page activity is tracked only if this option is enabled: DOM changes are observed and XHR/fetch requests are wrapped
+   * right after {@code open(url)}, or on the first check of a page opened otherwise (e.g. by click).
+   * Requests started before that are not tracked: the page is considered busy during the first idle period
+   * after tracking has been started, but a request taking longer than that is not waited for.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.idlePageTimeout=1000"
+   * Default value: 0 (disabled)
+   *
+   * @since Selenide 4.11.3
+   */
+  public static long idlePageTimeout = Long.parseLong(System.getProperty("selenide.idlePageTimeout", "0"));
+
+  /**
+   * If positive, {@code open(url)} waits until browser has no requests in flight (like AJAX calls)
+   * during this number of milliseconds, but not longer than {@link #timeout}.
+   * Works only with Selenide proxy server (see {@link #fileDownload}).
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.waitForNetworkIdleAfterOpen=300"
+   * Default value: 0 (don't wait)
+   *
+   * @since Selenide 4.11.3
+   */
+  public static long waitForNetworkIdleAfterOpen = Long.parseLong(System.getProperty("selenide.waitForNetworkIdleAfterOpen", "0"));
+
   /**
    * Interval in milliseconds, when checking if a new collection elements appeared
    * Can be configured either programmatically or by system property "-Dselenide.collectionsPollingInterval=150"
@@ -85,6 +118,32 @@ public class Configuration {
    */
   public static long closeBrowserTimeoutMs = Long.parseLong(System.getProperty("selenide.closeBrowserTimeout", "5000"));
 
+  /**
+   * Max number of browsers opened at the same time on this host by all JVMs sharing {@link #browserSlotsFolder}.
+   * Useful when a test suite is split between several JVMs on the same machine.
+   * When all slots are taken, creating a new browser waits (in order of requests) until some browser is closed.
+   * The slot is released by {@code closeWebDriver()}. A browser closed by {@code getWebDriver().quit()} directly
+   * (or kept by {@link #holdBrowserOpen}) gives up its slot only when another browser is waiting for one,
+   * and only if it's a {@code RemoteWebDriver} (including ChromeDriver, FirefoxDriver etc.).
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.maxBrowsersPerHost=8".
+   * Default value: 0 (no limit)
+   *
+   * @since Selenide 4.11.3
+   */
+  public static int maxBrowsersPerHost = Integer.parseInt(System.getProperty("selenide.maxBrowsersPerHost", "0"));
+
+  /**
+   * Folder with lock files used by JVMs to share {@link #maxBrowsersPerHost} browser slots.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.browserSlotsFolder=/tmp/browsers".
+   * Default value: "selenide-browser-slots" in the system temp folder
+   *
+   * @since Selenide 4.11.3
+   */
+  public static String browserSlotsFolder = System.getProperty("selenide.browserSlotsFolder",
+      new File(System.getProperty("java.io.tmpdir"), "selenide-browser-slots").getPath());
+
   /**
    * Which browser to use.
    * Can be configured either programmatically or by system property "-Dselenide.browser=ie" or "-Dbrowser=ie".
@@ -222,6 +281,20 @@ public class Configuration {
   public static String reportsFolder = System.getProperty("selenide.reportsFolder",
           System.getProperty("selenide.reports", "build/reports/tests"));
 
+  /**
+   * Optional: folder to stream steps of text reports to (as JSON Lines files, one file per test).
+   * If set, {@link com.codeborne.selenide.logevents.SimpleReport} (and so {@code TextReport} for JUnit and TestNG)
+   * writes every step to the file as soon as it's finished instead of keeping all steps in memory,
+   * and prints only summary and the file name. Use {@link com.codeborne.selenide.logevents.StepLogReader}
+   * to print the report table from the file.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.stepsLogFolder=build/reports/steps".
+   * Default value: null (steps are kept in memory)
+   *
+   * @since Selenide 4.11.3
+   */
+  public static String stepsLogFolder = System.getProperty("selenide.stepsLogFolder");
+
   /**
    * Optional: URL of CI server where reports are published to.
    * In case of Jenkins, it is "BUILD_URL/artifact" by default.
@@ -287,6 +360,66 @@ public class Configuration {
    */
   public static boolean fastSetValue = Boolean.parseBoolean(System.getProperty("selenide.fastSetValue", "false"));
 
+  /**
+   * If set to true, element found by {@code $} is reused by next commands on the same element
+   * until navigation, switching to frame/window or {@code StaleElementReferenceException}.
+   * Nested elements like {@code $("#form").$(".row", 3).$("input")} are then found once per page state.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.cacheElements=true".
+   * Default value: false
+   *
+   * @since Selenide 4.11.3
+   */
+  public static boolean cacheElements = Boolean.parseBoolean(System.getProperty("selenide.cacheElements", "false"));
+
+  /**
+   * If set to true, nested elements like {@code $("#grid").$$(".row").get(5).$(".cell", 2)}
+   * are found by a single JavaScript call instead of a separate webdriver call per level.
+   * Chains with non-standard selectors (like {@code byText}) or in Sizzle mode are still found level by level.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.resolveNestedElementsByJs=true".
+   * Default value: false
+   *
+   * @since Selenide 4.11.3
+   */
+  public static boolean resolveNestedElementsByJs = Boolean.parseBoolean(
+      System.getProperty("selenide.resolveNestedElementsByJs", "false"));
+
+  /**
+   * If set to true, collections like {@code $$(".row").filter(visible).exclude(cssClass("x")).first(5)}
+   * and {@code $$(".row").findBy(cssClass("active"))} are filtered by a single JavaScript call,
+   * which returns only the matching elements.
+   * Also {@code $$(".row").size()} and size conditions like {@code shouldHave(size(3))} count elements in browser.
+   * Works only if all conditions can be checked by JavaScript (see {@link Condition#toJavaScript()}),
+   * otherwise collection is filtered by webdriver calls for every element as usual.
+   *
+   * NB! In browser, {@link Condition#visible} and {@link Condition#hidden} only approximate {@code WebElement.isDisplayed()}:
+   * elements clipped by "overflow: hidden" of their parents or moved out of the page are considered visible.
+   * {@link Condition#enabled} and {@link Condition#disabled} use CSS pseudo-class ":disabled" (like {@code isEnabled()}),
+   * so elements inside of a disabled fieldset are disabled too.
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.filterCollectionsInBrowser=true".
+   * Default value: false
+   *
+   * @since Selenide 4.11.3
+   */
+  public static boolean filterCollectionsInBrowser = Boolean.parseBoolean(
+      System.getProperty("selenide.filterCollectionsInBrowser", "false"));
+
+  /**
+   * If set to true, JavaScript actions (click with {@link #clickViaJs}, setValue with {@link #fastSetValue})
+   * find the element, check that it's visible and perform the action by a single JavaScript call.
+   * If the element is not found or not ready for the action, the command is executed as usual
+   * (with waiting and the same errors).
+   * Works only for elements with standard selectors (css, xpath, id, name, class name, tag name).
+   *
+   * Can be configured either programmatically or by system property "-Dselenide.fusedActions=true".
+   * Default value: false
+   *
+   * @since Selenide 4.11.3
+   */
+  public static boolean fusedActions = Boolean.parseBoolean(System.getProperty("selenide.fusedActions", "false"));
+
   /**
    * If set to true, 'setValue' and 'val' methods of SelenideElement can work as 'selectOptionByValue', 'selectRadio'
    * depending on the real control type, defined by element's tag.
@@ -1,9 +1,17 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.collections.ListSize;
+import com.codeborne.selenide.collections.SizeCondition;
+import com.codeborne.selenide.collections.SizeGreaterThan;
+import com.codeborne.selenide.collections.SizeGreaterThanOrEqual;
+import com.codeborne.selenide.collections.SizeLessThan;
+import com.codeborne.selenide.collections.SizeLessThanOrEqual;
+import com.codeborne.selenide.collections.SizeNotEqual;
 import com.codeborne.selenide.ex.UIAssertionError;
 import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.impl.CollectionElement;
 import com.codeborne.selenide.impl.CollectionElementByCondition;
+import com.codeborne.selenide.impl.CollectionQuery;
 import com.codeborne.selenide.impl.FilteringCollection;
 import com.codeborne.selenide.impl.HeadOfCollection;
 import com.codeborne.selenide.impl.LastCollectionElement;
@@ -11,16 +19,22 @@ import com.codeborne.selenide.impl.SelenideElementIterator;
 import com.codeborne.selenide.impl.SelenideElementListIterator;
 import com.codeborne.selenide.impl.TailOfCollection;
 import com.codeborne.selenide.impl.WebElementsCollection;
+import com.codeborne.selenide.logevents.FlightRecording;
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.SelenideFlightRecorder;
 import com.codeborne.selenide.logevents.SelenideLog;
 import com.codeborne.selenide.logevents.SelenideLogger;
+import com.codeborne.selenide.logevents.WaitStatistics;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.util.AbstractList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
 
 import static com.codeborne.selenide.Condition.not;
 import static com.codeborne.selenide.Configuration.assertionMode;
@@ -28,10 +42,16 @@ import static com.codeborne.selenide.Configuration.collectionsPollingInterval;
 import static com.codeborne.selenide.Configuration.collectionsTimeout;
 import static com.codeborne.selenide.Selenide.$;
 import static com.codeborne.selenide.logevents.ErrorsCollector.validateAssertionMode;
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 public class ElementsCollection extends AbstractList<SelenideElement> {
+  private static final Set<Class<?>> sizeConditions = new HashSet<>(asList(ListSize.class,
+      SizeGreaterThan.class, SizeGreaterThanOrEqual.class, SizeLessThan.class, SizeLessThanOrEqual.class, SizeNotEqual.class));
+
   private final WebElementsCollection collection;
 
   public ElementsCollection(WebElementsCollection collection) {
@@ -68,9 +88,7 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
 
     SelenideLog log = SelenideLogger.beginStep(collection.description(), "should " + prefix, (Object[]) conditions);
     try {
-      for (CollectionCondition condition : conditions) {
-        waitUntil(condition, collectionsTimeout);
-      }
+      waitUntil(asList(conditions), collectionsTimeout, log.getWaitStatistics());
       SelenideLogger.commitStep(log, PASS);
       return this;
     }
@@ -90,28 +108,98 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
   }
 
   protected void waitUntil(CollectionCondition condition, long timeoutMs) {
+    waitUntil(condition, timeoutMs, new WaitStatistics());
+  }
+
+  protected void waitUntil(CollectionCondition condition, long timeoutMs, WaitStatistics statistics) {
+    waitUntil(singletonList(condition), timeoutMs, statistics);
+  }
+
+  /**
+   * Waits until all conditions are satisfied at the same time.
+   * Elements are fetched once per iteration and checked by all conditions,
+   * and the error is reported for the first condition that is not satisfied.
+   *
+   * @since Selenide 4.11.3
+   */
+  protected void waitUntil(List<CollectionCondition> conditions, long timeoutMs, WaitStatistics statistics) {
+    FlightRecording recording = SelenideFlightRecorder.beginWait(collection::description,
+        conditions.size() == 1 ? String.valueOf(conditions.get(0)) : String.valueOf(conditions));
+    CollectionCondition failedCondition = conditions.get(0);
     Exception lastError = null;
     List<WebElement> actualElements = null;
     final long startTime = System.currentTimeMillis();
-    do {
-      try {
-        actualElements = collection.getActualElements();
-        if (condition.apply(actualElements)) {
-          return;
+    LogEvent.EventStatus status = FAIL;
+    try {
+      do {
+        statistics.attemptStarted();
+        try {
+          Integer size = allSizeConditions(conditions) ? CollectionQuery.instance.count(collection) : null;
+          actualElements = size == null ? collection.getActualElements() : null;
+          long conditionStartNs = System.nanoTime();
+          failedCondition = firstNotMatching(conditions, size, actualElements);
+          statistics.addConditionTime(conditionStartNs);
+          if (failedCondition == null) {
+            statistics.succeeded();
+            status = PASS;
+            return;
+          }
         }
-      }
-      catch (WebDriverException elementNotFound) {
-        lastError = elementNotFound;
+        catch (WebDriverException elementNotFound) {
+          lastError = elementNotFound;
 
-        if (Cleanup.of.isInvalidSelectorError(elementNotFound)) {
-          throw Cleanup.of.wrap(elementNotFound);
+          if (Cleanup.of.isInvalidSelectorError(elementNotFound)) {
+            throw Cleanup.of.wrap(elementNotFound);
+          }
         }
+        finally {
+          statistics.attemptFinished();
+        }
+        sleep(collectionsPollingInterval);
+        statistics.slept(collectionsPollingInterval);
       }
-      sleep(collectionsPollingInterval);
+      while (System.currentTimeMillis() - startTime < timeoutMs);
+    }
+    finally {
+      recording.status(status.name()).polling(statistics).commit();
     }
-    while (System.currentTimeMillis() - startTime < timeoutMs);
-    condition.fail(collection, actualElements, lastError, timeoutMs);
+    failedCondition.fail(collection, actualElements != null ? actualElements : fetchElementsForErrorMessage(), lastError, timeoutMs);
   }
+
+  /**
+   * Subclasses of size conditions may override {@code apply}, so only the built-in classes are checked by counting elements
+   */
+  private boolean allSizeConditions(List<CollectionCondition> conditions) {
+    for (CollectionCondition condition : conditions) {
+      if (!sizeConditions.contains(condition.getClass())) return false;
+    }
+    return true;
+  }
+
+  /**
+   * @param size number of elements counted in browser, or null if elements have been fetched
+   * @return the first condition that is not satisfied, or null if all conditions are satisfied
+   */
+  private CollectionCondition firstNotMatching(List<CollectionCondition> conditions, Integer size, List<WebElement> elements) {
+    for (CollectionCondition condition : conditions) {
+      boolean matches = size == null ? condition.apply(elements) : ((SizeCondition) condition).applySize(size);
+      if (!matches) return condition;
+    }
+    return null;
+  }
+
+  /**
+   * Size conditions are checked by counting elements in browser, so elements are fetched only for error message
+   */
+  private List<WebElement> fetchElementsForErrorMessage() {
+    try {
+      return collection.getActualElements();
+    }
+    catch (WebDriverException elementsNotFound) {
+      return null;
+    }
+  }
+
   void sleep(long ms) {
     Selenide.sleep(ms);
   }
@@ -287,9 +375,13 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     return new ElementsCollection(new TailOfCollection(collection, elements));
   }
 
+  /**
+   * Number of elements is counted in browser if possible (without fetching all elements)
+   */
   @Override
   public int size() {
-    return getElements().size();
+    Integer count = CollectionQuery.instance.count(collection);
+    return count != null ? count : getElements().size();
   }
 
   @Override
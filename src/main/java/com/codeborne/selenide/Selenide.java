@@ -3,6 +3,8 @@ package com.codeborne.selenide;
 import com.codeborne.selenide.ex.DialogTextMismatch;
 import com.codeborne.selenide.ex.JavaScriptErrorsFound;
 import com.codeborne.selenide.impl.BySelectorCollection;
+import com.codeborne.selenide.impl.CachedElement;
+import com.codeborne.selenide.impl.CommandsBatch;
 import com.codeborne.selenide.impl.ElementFinder;
 import com.codeborne.selenide.impl.Navigator;
 import com.codeborne.selenide.impl.SelenideFieldDecorator;
@@ -211,6 +213,30 @@ public class Selenide {
     return getWebDriver().getTitle();
   }
 
+  /**
+   * Execute given actions, sending as many of them as possible to browser in a single JavaScript call.
+   *
+   * Only {@code setValue}/{@code val} (with {@link Configuration#fastSetValue}) and {@code click()}
+   * (with {@link Configuration#clickViaJs}) are batched. Any other command executes the queued ones first,
+   * as well as any other access to the browser via {@link WebDriverRunner} (e.g. {@code open()}, {@code executeJavaScript()},
+   * checks of collections), so that the order of actions is kept.
+   * Commands that cannot be executed by JavaScript (element not found, invisible, readonly etc.)
+   * are executed as usual, with waiting and the same error messages.
+   *
+   * <pre>
+   *   batch(() -> {
+   *     $("#username").setValue("john");
+   *     $("#password").setValue("secret");
+   *     $("#login").click();
+   *   });
+   * </pre>
+   *
+   * @since Selenide 4.11.3
+   */
+  public static void batch(Runnable actions) {
+    CommandsBatch.execute(actions);
+  }
+
   /**
    * Not recommended. Test should not sleep, but should wait for some condition instead.
    * @param milliseconds Time to sleep in milliseconds
@@ -224,6 +250,21 @@ public class Selenide {
     }
   }
 
+  /**
+   * Wait until browser has no requests in flight (like AJAX calls) during {@code quietPeriodMs}.
+   * Requests are tracked by Selenide proxy server, so it works only if the proxy server is started
+   * (see {@link WebDriverRunner#getSelenideProxy()}).
+   *
+   * @param quietPeriodMs how long network should be idle, in milliseconds
+   * @param timeoutMs max time to wait, in milliseconds
+   * @throws IllegalStateException if proxy server is not started
+   * @throws org.openqa.selenium.TimeoutException if network has not become idle in {@code timeoutMs}
+   * @since Selenide 4.11.3
+   */
+  public static void waitForNetworkIdle(long quietPeriodMs, long timeoutMs) {
+    navigator.waitForNetworkIdle(quietPeriodMs, timeoutMs);
+  }
+
   /**
    * Take the screenshot of current page and save to file fileName.html and fileName.png
    * @param fileName Name of file (without extension) to save HTML and PNG to
@@ -626,6 +667,7 @@ public class Selenide {
    * @return SelenideTargetLocator
    */
   public static SelenideTargetLocator switchTo() {
+    CachedElement.invalidateAll();
     return new SelenideTargetLocator(getWebDriver().switchTo());
   }
 
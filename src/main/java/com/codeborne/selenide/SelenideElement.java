@@ -16,6 +16,9 @@ import org.openqa.selenium.internal.WrapsElement;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * Wrapper around {@link WebElement} with additional methods like
@@ -87,6 +90,30 @@ public interface SelenideElement extends WebElement, FindsByLinkText, FindsById,
    */
   SelenideElement append(String text);
 
+  /**
+   * <p>Fill fields of this form in a single JavaScript call.</p>
+   *
+   * <p>
+   * Every field is found by CSS selector inside of this element, and its value is set
+   * the same way as {@link #setValue(String)} does with {@link Configuration#fastSetValue}:
+   * readonly and disabled fields are rejected, value is cut by maxlength,
+   * and the same events are triggered.
+   * Like with {@link Configuration#versatileSetValue}, option of select and radio button are selected by value
+   * (radio button among all elements found by the selector). Checkboxes are rejected, use {@link #setSelected(boolean)}.
+   * </p>
+   *
+   * <pre>
+   *   $("#registration").fillForm(ImmutableMap.of("#username", "john", "[name=email]", "john@mail.com"));
+   * </pre>
+   *
+   * @param values CSS selector of field -&gt; value to set
+   * @return failed fields (selector -&gt; reason), or empty map if all fields have been filled
+   *
+   * @see com.codeborne.selenide.commands.FillForm
+   * @since Selenide 4.11.3
+   */
+  Map<String, String> fillForm(Map<String, String> values);
+
   /**
    * Press ENTER. Useful for input field and textareas: <pre>
    *  $("query").val("Aikido techniques").pressEnter();</pre>
@@ -710,6 +737,21 @@ public interface SelenideElement extends WebElement, FindsByLinkText, FindsById,
    */
   File download() throws FileNotFoundException;
 
+  /**
+   * Click this element and wait until {@code count} files matching {@code fileFilter} are downloaded.
+   * Works only with Selenide proxy server ({@code Configuration.fileDownload = PROXY}).
+   *
+   * <pre>  List&lt;File&gt; reports = $("#export").download(2, file -&gt; file.getName().endsWith(".pdf"));</pre>
+   *
+   * @return downloaded files matching {@code fileFilter}
+   * @throws FileNotFoundException if less than {@code count} files have been downloaded in {@link Configuration#timeout}
+   * @throws IllegalStateException if Selenide proxy server is not started
+   *
+   * @see com.codeborne.selenide.commands.DownloadFile
+   * @since Selenide 4.11.3
+   */
+  List<File> download(int count, Predicate<File> fileFilter) throws FileNotFoundException;
+
   /**
    * Return criteria by which this element is located
    * @return e.g. "#multirowTable.findBy(text 'INVALID-TEXT')/valid-selector"
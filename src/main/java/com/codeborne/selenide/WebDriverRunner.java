@@ -1,5 +1,6 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.impl.CommandsBatch;
 import com.codeborne.selenide.impl.WebDriverContainer;
 import com.codeborne.selenide.impl.WebDriverThreadLocalContainer;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
@@ -116,6 +117,7 @@ public class WebDriverRunner {
    * This can be used for any operations directly with WebDriver.
    */
   public static WebDriver getWebDriver() {
+    CommandsBatch.flushCurrent();
     return webdriverContainer.getWebDriver();
   }
 
@@ -133,6 +135,7 @@ public class WebDriverRunner {
    * @return new instance of WebDriver if the previous one has been closed meanwhile.
    */
   public static WebDriver getAndCheckWebDriver() {
+    CommandsBatch.flushCurrent();
     return webdriverContainer.getAndCheckWebDriver();
   }
 
@@ -148,6 +151,7 @@ public class WebDriverRunner {
    * Close the browser if it's open
    */
   public static void closeWebDriver() {
+    CommandsBatch.flushCurrent();
     webdriverContainer.closeWebDriver();
   }
 
@@ -253,6 +257,7 @@ public class WebDriverRunner {
    * Delete all the browser cookies
    */
   public static void clearBrowserCache() {
+    CommandsBatch.flushCurrent();
     webdriverContainer.clearBrowserCache();
   }
 
@@ -260,6 +265,7 @@ public class WebDriverRunner {
    * @return the source (HTML) of current page
    */
   public static String source() {
+    CommandsBatch.flushCurrent();
     return webdriverContainer.getPageSource();
   }
 
@@ -267,6 +273,7 @@ public class WebDriverRunner {
    * @return the URL of current page
    */
   public static String url() {
+    CommandsBatch.flushCurrent();
     return webdriverContainer.getCurrentUrl();
   }
 
@@ -274,6 +281,7 @@ public class WebDriverRunner {
    * @return the URL of current frame
    */
   public static String currentFrameUrl() {
+    CommandsBatch.flushCurrent();
     return webdriverContainer.getCurrentFrameUrl();
   }
 }
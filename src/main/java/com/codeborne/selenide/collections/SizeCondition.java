@@ -0,0 +1,14 @@
+package com.codeborne.selenide.collections;
+
+/**
+ * Collection condition which depends only on number of elements.
+ *
+ * With {@link com.codeborne.selenide.Configuration#filterCollectionsInBrowser}, built-in size conditions are checked
+ * by counting elements in browser, without fetching every element from webdriver (and elements are fetched only for error message).
+ * Their subclasses are always checked by {@code apply}.
+ *
+ * @since Selenide 4.11.3
+ */
+public interface SizeCondition {
+  boolean applySize(int size);
+}
@@ -7,7 +7,7 @@ import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
-public class SizeLessThan extends CollectionCondition {
+public class SizeLessThan extends CollectionCondition implements SizeCondition {
   protected final int expectedSize;
 
   public SizeLessThan(int expectedSize) {
@@ -16,7 +16,12 @@ public class SizeLessThan extends CollectionCondition {
 
   @Override
   public boolean apply(List<WebElement> elements) {
-    return elements.size() < expectedSize;
+    return applySize(elements.size());
+  }
+
+  @Override
+  public boolean applySize(int size) {
+    return size < expectedSize;
   }
 
   @Override
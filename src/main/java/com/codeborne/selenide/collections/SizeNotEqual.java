@@ -7,7 +7,7 @@ import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
-public class SizeNotEqual extends CollectionCondition {
+public class SizeNotEqual extends CollectionCondition implements SizeCondition {
   protected final int expectedSize;
 
   public SizeNotEqual(int expectedSize) {
@@ -16,7 +16,12 @@ public class SizeNotEqual extends CollectionCondition {
 
   @Override
   public boolean apply(List<WebElement> elements) {
-    return elements.size() != expectedSize;
+    return applySize(elements.size());
+  }
+
+  @Override
+  public boolean applySize(int size) {
+    return size != expectedSize;
   }
 
   @Override
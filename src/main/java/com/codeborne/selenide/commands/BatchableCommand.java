@@ -0,0 +1,17 @@
+package com.codeborne.selenide.commands;
+
+import java.util.List;
+
+/**
+ * Command that can be executed inside of {@link com.codeborne.selenide.Selenide#batch(Runnable)}
+ * together with other commands in a single JavaScript call.
+ *
+ * @since Selenide 4.11.3
+ */
+public interface BatchableCommand {
+  /**
+   * @return browser-side action (its name followed by its arguments),
+   *         or null if this invocation cannot be executed by JavaScript and should be executed as usual.
+   */
+  List<Object> toBatchAction(Object[] args);
+}
@@ -2,17 +2,23 @@ package com.codeborne.selenide.commands;
 
 import com.codeborne.selenide.Command;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.FusedAction;
+import com.codeborne.selenide.impl.SelenideJs;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 import static com.codeborne.selenide.Configuration.clickViaJs;
 import static com.codeborne.selenide.Selenide.actions;
 import static com.codeborne.selenide.Selenide.executeJavaScript;
+import static java.util.Collections.singletonList;
 
-public class Click implements Command<Void> {
+public class Click implements Command<Void>, BatchableCommand {
   @Override
   public Void execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
     if (args == null || args.length == 0) {
+      if (clickViaJs && FusedAction.instance.execute(locator, "click")) return null;
       click(locator.findAndAssertElementIsVisible());
     }
     else if (args.length == 2) {
@@ -21,6 +27,11 @@ public class Click implements Command<Void> {
     return null;
   }
 
+  @Override
+  public List<Object> toBatchAction(Object[] args) {
+    return clickViaJs && (args == null || args.length == 0) ? singletonList("click") : null;
+  }
+
   protected void click(WebElement element) {
     if (clickViaJs) {
       executeJavaScript("arguments[0].click()", element);
@@ -32,16 +43,7 @@ public class Click implements Command<Void> {
 
   protected void click(WebElement element, int offsetX, int offsetY) {
     if (clickViaJs) {
-      executeJavaScript("arguments[0].dispatchEvent(new MouseEvent('click', {" +
-              "'view': window," +
-              "'bubbles': true," +
-              "'cancelable': true," +
-              "'clientX': arguments[0].getClientRects()[0].left + arguments[1]," +
-              "'clientY': arguments[0].getClientRects()[0].top + arguments[2]" +
-              "}))",
-          element,
-          offsetX,
-          offsetY);
+      SelenideJs.instance.call("clickAt", element, offsetX, offsetY);
     }
     else {
       actions()
@@ -4,140 +4,208 @@ import com.codeborne.selenide.Command;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 
+import org.openqa.selenium.WebDriver;
+
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.WeakHashMap;
+
+import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+import static com.codeborne.selenide.WebDriverRunner.webdriverContainer;
+
+/**
+ * Registry of Selenide commands.
+ *
+ * Commands are looked up on every call of a {@link SelenideElement} method, from all test threads,
+ * so the lookup never takes a lock: the registry is an immutable map which is replaced (under lock) when commands are added.
+ * Commands added by {@link #addForCurrentBrowser(String, Command)} override global ones only for the browser
+ * of the current thread, even if the browser is later used by another thread (see {@code BrowserPerClass}).
+ * Lookup of such commands takes a lock, but only while some browser has its own commands.
+ */
 public class Commands {
-  private static Commands collection;
+  private static class Holder {
+    private static final Commands instance = new Commands();
+  }
 
-  private final Map<String, Command> commands = new ConcurrentHashMap<>(128);
+  private volatile Map<String, Command<?>> commands;
+  private final Map<WebDriver, Map<String, Command<?>>> browserCommands = new WeakHashMap<>(); // guarded by this
+  private volatile boolean hasBrowserCommands;
 
-  public static synchronized Commands getInstance() {
-    if (collection == null) {
-      collection = new Commands();
-      collection.resetDefaults();
-    }
-    return collection;
+  public Commands() {
+    resetDefaults();
+  }
+
+  public static Commands getInstance() {
+    return Holder.instance;
   }
 
   public final synchronized void resetDefaults() {
-    commands.clear();
-    addFindCommands();
-    addClickCommands();
-    addModifyCommands();
-    addInfoCommands();
-    addSelectCommands();
-    addKeyboardCommands();
-    addActionsCommands();
-    addShouldCommands();
-    addShouldNotCommands();
-    addFileCommands();
-    addTechnicalCommands();
-  }
-
-  private void addTechnicalCommands() {
-    add("toString", new ToString());
-    add("toWebElement", new ToWebElement());
-    add("getWrappedElement", new GetWrappedElement());
-    add("screenshot", new TakeScreenshot());
-    add("screenshotAsImage", new TakeScreenshotAsImage());
-    add("getSearchCriteria", new GetSearchCriteria());
-  }
-
-  private void addActionsCommands() {
-    add("dragAndDropTo", new DragAndDropTo());
-    add("hover", new Hover());
-    add("scrollTo", new ScrollTo());
-    add("scrollIntoView", new ScrollIntoView());
-  }
-
-  private void addInfoCommands() {
-    add("attr", new GetAttribute());
-    add("data", new GetDataAttribute());
-    add("exists", new Exists());
-    add("innerText", new GetInnerText());
-    add("innerHtml", new GetInnerHtml());
-    add("has", new Matches());
-    add("is", new Matches());
-    add("isDisplayed", new IsDisplayed());
-    add("isImage", new IsImage());
-    add("getText", new GetText());
-    add("name", new GetName());
-    add("text", new GetText());
-    add("getValue", new GetValue());
-  }
-
-  private void addClickCommands() {
-    add("click", new Click());
-    add("contextClick", new ContextClick());
-    add("doubleClick", new DoubleClick());
-    add("followLink", new FollowLink());
-  }
-
-  private void addModifyCommands() {
-    add("selectRadio", new SelectRadio());
-    add("setSelected", new SetSelected());
-    add("setValue", new SetValue());
-    add("val", new Val());
-    add("append", new Append());
-  }
-
-  private void addFindCommands() {
-    add("find", new Find());
-    add("$", new Find());
-    add("$x", new FindByXpath());
-    add("findAll", new FindAll());
-    add("$$", new FindAll());
-    add("$$x", new FindAllByXpath());
-    add("closest", new GetClosest());
-    add("parent", new GetParent());
-  }
-
-  private void addKeyboardCommands() {
-    add("pressEnter", new PressEnter());
-    add("pressEscape", new PressEscape());
-    add("pressTab", new PressTab());
-  }
-
-  private void addSelectCommands() {
-    add("getSelectedOption", new GetSelectedOption());
-    add("getSelectedOptions", new GetSelectedOptions());
-    add("getSelectedText", new GetSelectedText());
-    add("getSelectedValue", new GetSelectedValue());
-    add("selectOption", new SelectOptionByTextOrIndex());
-    add("selectOptionContainingText", new SelectOptionContainingText());
-    add("selectOptionByValue", new SelectOptionByValue());
-  }
-
-  private void addFileCommands() {
-    add("download", new DownloadFile());
-    add("uploadFile", new UploadFile());
-    add("uploadFromClasspath", new UploadFileFromClasspath());
-  }
-
-  private void addShouldNotCommands() {
-    add("shouldNot", new ShouldNot());
-    add("shouldNotHave", new ShouldNotHave());
-    add("shouldNotBe", new ShouldNotBe());
-    add("waitWhile", new ShouldNotBe());
-  }
-
-  private void addShouldCommands() {
-    add("should", new Should());
-    add("shouldHave", new ShouldHave());
-    add("shouldBe", new ShouldBe());
-    add("waitUntil", new ShouldBe());
+    Map<String, Command<?>> defaults = new HashMap<>(128);
+    addFindCommands(defaults);
+    addClickCommands(defaults);
+    addModifyCommands(defaults);
+    addInfoCommands(defaults);
+    addSelectCommands(defaults);
+    addKeyboardCommands(defaults);
+    addActionsCommands(defaults);
+    addShouldCommands(defaults);
+    addShouldNotCommands(defaults);
+    addFileCommands(defaults);
+    addTechnicalCommands(defaults);
+    commands = Collections.unmodifiableMap(defaults);
+  }
+
+  private void addTechnicalCommands(Map<String, Command<?>> commands) {
+    commands.put("toString", new ToString());
+    commands.put("toWebElement", new ToWebElement());
+    commands.put("getWrappedElement", new GetWrappedElement());
+    commands.put("screenshot", new TakeScreenshot());
+    commands.put("screenshotAsImage", new TakeScreenshotAsImage());
+    commands.put("getSearchCriteria", new GetSearchCriteria());
+  }
+
+  private void addActionsCommands(Map<String, Command<?>> commands) {
+    commands.put("dragAndDropTo", new DragAndDropTo());
+    commands.put("hover", new Hover());
+    commands.put("scrollTo", new ScrollTo());
+    commands.put("scrollIntoView", new ScrollIntoView());
+  }
+
+  private void addInfoCommands(Map<String, Command<?>> commands) {
+    commands.put("attr", new GetAttribute());
+    commands.put("data", new GetDataAttribute());
+    commands.put("exists", new Exists());
+    commands.put("innerText", new GetInnerText());
+    commands.put("innerHtml", new GetInnerHtml());
+    commands.put("has", new Matches());
+    commands.put("is", new Matches());
+    commands.put("isDisplayed", new IsDisplayed());
+    commands.put("isImage", new IsImage());
+    commands.put("getText", new GetText());
+    commands.put("name", new GetName());
+    commands.put("text", new GetText());
+    commands.put("getValue", new GetValue());
+  }
+
+  private void addClickCommands(Map<String, Command<?>> commands) {
+    commands.put("click", new Click());
+    commands.put("contextClick", new ContextClick());
+    commands.put("doubleClick", new DoubleClick());
+    commands.put("followLink", new FollowLink());
+  }
+
+  private void addModifyCommands(Map<String, Command<?>> commands) {
+    commands.put("selectRadio", new SelectRadio());
+    commands.put("setSelected", new SetSelected());
+    commands.put("setValue", new SetValue());
+    commands.put("val", new Val());
+    commands.put("append", new Append());
+    commands.put("fillForm", new FillForm());
+  }
+
+  private void addFindCommands(Map<String, Command<?>> commands) {
+    commands.put("find", new Find());
+    commands.put("$", new Find());
+    commands.put("$x", new FindByXpath());
+    commands.put("findAll", new FindAll());
+    commands.put("$$", new FindAll());
+    commands.put("$$x", new FindAllByXpath());
+    commands.put("closest", new GetClosest());
+    commands.put("parent", new GetParent());
+  }
+
+  private void addKeyboardCommands(Map<String, Command<?>> commands) {
+    commands.put("pressEnter", new PressEnter());
+    commands.put("pressEscape", new PressEscape());
+    commands.put("pressTab", new PressTab());
+  }
+
+  private void addSelectCommands(Map<String, Command<?>> commands) {
+    commands.put("getSelectedOption", new GetSelectedOption());
+    commands.put("getSelectedOptions", new GetSelectedOptions());
+    commands.put("getSelectedText", new GetSelectedText());
+    commands.put("getSelectedValue", new GetSelectedValue());
+    commands.put("selectOption", new SelectOptionByTextOrIndex());
+    commands.put("selectOptionContainingText", new SelectOptionContainingText());
+    commands.put("selectOptionByValue", new SelectOptionByValue());
+  }
+
+  private void addFileCommands(Map<String, Command<?>> commands) {
+    commands.put("download", new DownloadFile());
+    commands.put("uploadFile", new UploadFile());
+    commands.put("uploadFromClasspath", new UploadFileFromClasspath());
+  }
+
+  private void addShouldNotCommands(Map<String, Command<?>> commands) {
+    commands.put("shouldNot", new ShouldNot());
+    commands.put("shouldNotHave", new ShouldNotHave());
+    commands.put("shouldNotBe", new ShouldNotBe());
+    commands.put("waitWhile", new ShouldNotBe());
+  }
+
+  private void addShouldCommands(Map<String, Command<?>> commands) {
+    commands.put("should", new Should());
+    commands.put("shouldHave", new ShouldHave());
+    commands.put("shouldBe", new ShouldBe());
+    commands.put("waitUntil", new ShouldBe());
+  }
+
+  public synchronized void add(String method, Command<?> command) {
+    Map<String, Command<?>> updated = new HashMap<>(commands);
+    updated.put(method, command);
+    commands = Collections.unmodifiableMap(updated);
+  }
+
+  /**
+   * Add or override command only for the browser of the current thread (e.g. for one of parallel test suites).
+   * Other browsers keep using global commands. Opens the browser if it's not opened yet.
+   *
+   * @since Selenide 4.11.3
+   */
+  public void addForCurrentBrowser(String method, Command<?> command) {
+    WebDriver webdriver = getWebDriver();
+    synchronized (this) {
+      browserCommands.computeIfAbsent(webdriver, key -> new HashMap<>()).put(method, command);
+      hasBrowserCommands = true;
+    }
+  }
+
+  /**
+   * Remove commands added by {@link #addForCurrentBrowser(String, Command)}
+   *
+   * @since Selenide 4.11.3
+   */
+  public synchronized void resetCurrentBrowser() {
+    if (webdriverContainer.hasWebDriverStarted()) {
+      browserCommands.remove(webdriverContainer.getWebDriver());
+      hasBrowserCommands = !browserCommands.isEmpty();
+    }
+  }
+
+  /**
+   * @return command registered for given method (for the current browser or globally), or null if there is no such command
+   */
+  public Command<?> get(String method) {
+    Command<?> command = hasBrowserCommands ? getForCurrentBrowser(method) : null;
+    return command != null ? command : commands.get(method);
   }
 
-  public void add(String method, Command command) {
-    commands.put(method, command);
+  /**
+   * Webdriver is taken from the container directly, because {@link com.codeborne.selenide.WebDriverRunner#getWebDriver()}
+   * would execute commands queued by {@link com.codeborne.selenide.impl.CommandsBatch} while new ones are being added.
+   */
+  private synchronized Command<?> getForCurrentBrowser(String method) {
+    if (!webdriverContainer.hasWebDriverStarted()) return null;
+    Map<String, Command<?>> overrides = browserCommands.get(webdriverContainer.getWebDriver());
+    return overrides == null ? null : overrides.get(method);
   }
 
   @SuppressWarnings("unchecked")
   public <T> T execute(Object proxy, WebElementSource webElementSource, String methodName, Object[] args)
       throws IOException {
-    Command command = commands.get(methodName);
+    Command<?> command = get(methodName);
     if (command == null) {
       throw new IllegalArgumentException("Unknown Selenide method: " + methodName);
     }
@@ -10,19 +10,30 @@ import org.openqa.selenium.WebElement;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import static com.codeborne.selenide.Configuration.FileDownloadMode.HTTPGET;
 import static com.codeborne.selenide.WebDriverRunner.webdriverContainer;
 
-public class DownloadFile implements Command<File> {
+/**
+ * Without arguments, downloads one file and returns it.
+ * With arguments {@code (int count, Predicate<File> fileFilter)}, waits for several files
+ * (only via Selenide proxy server) and returns a list of them.
+ */
+public class DownloadFile implements Command<Object> {
   private static final Logger LOG = Logger.getLogger(DownloadFile.class.getName());
   
   DownloadFileWithHttpRequest downloadFileWithHttpRequest = new DownloadFileWithHttpRequest();
   DownloadFileWithProxyServer downloadFileWithProxyServer = new DownloadFileWithProxyServer();
   
   @Override
-  public File execute(SelenideElement proxy, WebElementSource linkWithHref, Object[] args) throws IOException {
+  @SuppressWarnings("unchecked")
+  public Object execute(SelenideElement proxy, WebElementSource linkWithHref, Object[] args) throws IOException {
+    if (args != null && args.length == 2) {
+      return downloadFiles(linkWithHref, (Integer) args[0], (Predicate<File>) args[1]);
+    }
+
     WebElement link = linkWithHref.findAndAssertElementIsVisible();
     if (Configuration.fileDownload == HTTPGET) {
       LOG.config("selenide.fileDownload = " + System.getProperty("selenide.fileDownload") + " download file via http get");
@@ -36,4 +47,13 @@ public class DownloadFile implements Command<File> {
       return downloadFileWithProxyServer.download(linkWithHref, link, webdriverContainer.getProxyServer());
     }
   }
+
+  private Object downloadFiles(WebElementSource linkWithHref, int count, Predicate<File> fileFilter) throws IOException {
+    if (Configuration.fileDownload == HTTPGET || webdriverContainer.getProxyServer() == null) {
+      throw new IllegalStateException("Cannot wait for several downloaded files without Selenide proxy server " +
+          "(selenide.fileDownload = " + Configuration.fileDownload + ")");
+    }
+    WebElement link = linkWithHref.findAndAssertElementIsVisible();
+    return downloadFileWithProxyServer.download(linkWithHref, link, webdriverContainer.getProxyServer(), count, fileFilter);
+  }
 }
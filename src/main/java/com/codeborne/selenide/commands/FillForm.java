@@ -0,0 +1,34 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.SelenideJs;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+
+public class FillForm implements Command<Map<String, String>> {
+  @Override
+  @SuppressWarnings("unchecked")
+  public Map<String, String> execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
+    Map<String, String> values = (Map<String, String>) args[0];
+    WebElement form = locator.findAndAssertElementIsVisible();
+
+    List<String> selectors = new ArrayList<>(values.size());
+    List<String> texts = new ArrayList<>(values.size());
+    for (Map.Entry<String, String> field : values.entrySet()) {
+      selectors.add(field.getKey());
+      texts.add(field.getValue() == null ? "" : field.getValue());
+    }
+
+    Map<String, String> failures = SelenideJs.instance.call("fillForm", form, selectors, texts,
+        asList(SetValue.eventsAfterFastSetValue()));
+    return failures == null ? new LinkedHashMap<>() : new LinkedHashMap<>(failures);
+  }
+}
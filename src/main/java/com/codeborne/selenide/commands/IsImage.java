@@ -2,11 +2,10 @@ package com.codeborne.selenide.commands;
 
 import com.codeborne.selenide.Command;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.SelenideJs;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
-import static com.codeborne.selenide.Selenide.executeJavaScript;
-
 public class IsImage implements Command<Boolean> {
   @Override
   public Boolean execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
@@ -14,8 +13,6 @@ public class IsImage implements Command<Boolean> {
     if (!"img".equalsIgnoreCase(img.getTagName())) {
       throw new IllegalArgumentException("Method isImage() is only applicable for img elements");
     }
-    return executeJavaScript("return arguments[0].complete && " +
-        "typeof arguments[0].naturalWidth != 'undefined' && " +
-        "arguments[0].naturalWidth > 0", img);
+    return SelenideJs.instance.call("isImage", img);
   }
 }
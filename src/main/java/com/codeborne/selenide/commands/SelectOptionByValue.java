@@ -6,9 +6,9 @@ import com.codeborne.selenide.impl.WebElementSource;
 
 import org.openqa.selenium.support.ui.Select;
 
-public class SelectOptionByValue implements Command {
+public class SelectOptionByValue implements Command<Void> {
   @Override
-  public Object execute(SelenideElement proxy, WebElementSource selectField, Object[] args) {
+  public Void execute(SelenideElement proxy, WebElementSource selectField, Object[] args) {
     Select select = new Select(selectField.getWebElement());
     if (args[0] instanceof String) {
       select.selectByValue((String) args[0]);
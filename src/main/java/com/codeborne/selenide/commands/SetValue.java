@@ -4,15 +4,19 @@ import com.codeborne.selenide.Command;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.InvalidStateException;
+import com.codeborne.selenide.impl.FusedAction;
+import com.codeborne.selenide.impl.SelenideJs;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+
 import static com.codeborne.selenide.Configuration.fastSetValue;
 import static com.codeborne.selenide.Configuration.setValueChangeEvent;
-import static com.codeborne.selenide.Selenide.executeJavaScript;
 import static com.codeborne.selenide.impl.Events.events;
+import static java.util.Arrays.asList;
 
-public class SetValue implements Command<WebElement> {
+public class SetValue implements Command<WebElement>, BatchableCommand {
   private SelectOptionByValue selectOptionByValue;
   private SelectRadio selectRadio;
 
@@ -29,6 +33,9 @@ public class SetValue implements Command<WebElement> {
   @Override
   public WebElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
     String text = (String) args[0];
+    if (isFusable(text) && FusedAction.instance.execute(locator, "setValue", text, asList(eventsAfterFastSetValue()))) {
+      return proxy;
+    }
     WebElement element = locator.findAndAssertElementIsVisible();
 
     if (Configuration.versatileSetValue
@@ -52,12 +59,7 @@ public class SetValue implements Command<WebElement> {
     } else if (fastSetValue) {
       String error = setValueByJs(element, text);
       if (error != null) throw new InvalidStateException(error);
-      if (setValueChangeEvent) {
-        events.fireEvent(element, "keydown", "keypress", "input", "keyup", "change");
-      }
-      else {
-        events.fireEvent(element, "keydown", "keypress", "input", "keyup");
-      }
+      events.fireEvent(element, eventsAfterFastSetValue());
     } else {
       element.clear();
       element.sendKeys(text);
@@ -67,19 +69,27 @@ public class SetValue implements Command<WebElement> {
     }
   }
 
+  /**
+   * Select and radio button need versatile setValue, and empty text is set by {@code clear()}
+   */
+  private boolean isFusable(String text) {
+    return fastSetValue && !Configuration.versatileSetValue && text != null && !text.isEmpty();
+  }
+
+  static String[] eventsAfterFastSetValue() {
+    return setValueChangeEvent ?
+        new String[]{"keydown", "keypress", "input", "keyup", "change"} :
+        new String[]{"keydown", "keypress", "input", "keyup"};
+  }
+
+  @Override
+  public List<Object> toBatchAction(Object[] args) {
+    String text = (String) args[0];
+    if (!fastSetValue || text == null || text.isEmpty()) return null;
+    return asList("setValue", text, asList(eventsAfterFastSetValue()), Configuration.versatileSetValue);
+  }
+
   private String setValueByJs(WebElement element, String text) {
-    return executeJavaScript(
-        "return (function(webelement, text) {" +
-            "if (webelement.getAttribute('readonly') != undefined) return 'Cannot change value of readonly element';" +
-            "if (webelement.getAttribute('disabled') != undefined) return 'Cannot change value of disabled element';" +
-            "webelement.focus();" +
-            "var maxlength = webelement.getAttribute('maxlength') == null ? -1 : parseInt(webelement.getAttribute('maxlength'));" +
-            "webelement.value = " +
-            "maxlength == -1 ? text " +
-            ": text.length <= maxlength ? text " +
-            ": text.substring(0, maxlength);" +
-            "return null;" +
-            "})(arguments[0], arguments[1]);",
-        element, text);
+    return SelenideJs.instance.call("setValue", element, text);
   }
 }
@@ -31,8 +31,6 @@ public class Should implements Command<SelenideElement> {
   }
 
   protected void should(WebElementSource locator, String message, List<Condition> conditions) {
-    for (Condition condition : conditions) {
-      locator.checkCondition(prefix, message, condition, false);
-    }
+    locator.checkConditions(prefix, message, conditions, false);
   }
 }
@@ -32,8 +32,6 @@ public class ShouldNot implements Command<SelenideElement> {
   }
 
   protected void shouldNot(SelenideElement proxy, WebElementSource locator, String message, List<Condition> conditions) {
-    for (Condition condition : conditions) {
-      locator.checkCondition(prefix, message, condition, true);
-    }
+    locator.checkConditions(prefix, message, conditions, true);
   }
 }
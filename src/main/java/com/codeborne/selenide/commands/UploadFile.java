@@ -3,14 +3,13 @@ package com.codeborne.selenide.commands;
 import com.codeborne.selenide.Command;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.Describe;
+import com.codeborne.selenide.impl.SelenideJs;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
 import java.io.File;
 import java.io.IOException;
 
-import static com.codeborne.selenide.Selenide.executeJavaScript;
-
 public class UploadFile implements Command<File> {
   @Override
   public File execute(SelenideElement proxy, WebElementSource locator, Object[] args) throws IOException {
@@ -54,14 +53,6 @@ public class UploadFile implements Command<File> {
   }
 
   protected WebElement cloneInputField(SelenideElement form, WebElement inputField) {
-    return executeJavaScript(
-        "var fileInput = document.createElement('input');" +
-            "fileInput.setAttribute('type', arguments[1].getAttribute('type'));" +
-            "fileInput.setAttribute('name', arguments[1].getAttribute('name'));" +
-            "fileInput.style.width = '1px';" +
-            "fileInput.style.height = '1px';" +
-            "arguments[0].appendChild(fileInput);" +
-            "return fileInput;",
-        form, inputField);
+    return SelenideJs.instance.call("cloneFileInput", form, inputField);
   }
 }
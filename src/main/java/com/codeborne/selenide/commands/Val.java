@@ -4,7 +4,9 @@ import com.codeborne.selenide.Command;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 
-public class Val implements Command<Object> {
+import java.util.List;
+
+public class Val implements Command<Object>, BatchableCommand {
   private GetValue getValue;
   private SetValue setValue;
 
@@ -28,4 +30,9 @@ public class Val implements Command<Object> {
       return proxy;
     }
   }
+
+  @Override
+  public List<Object> toBatchAction(Object[] args) {
+    return args == null || args.length == 0 ? null : setValue.toBatchAction(args);
+  }
 }
@@ -19,7 +19,7 @@ public class Text extends Condition {
     String elementText = "select".equalsIgnoreCase(element.getTagName()) ?
         getSelectedOptionsTexts(element) :
         element.getText();
-    return Html.text.contains(elementText, this.text.toLowerCase());
+    return Html.text.contains(elementText, this.text);
   }
 
   private String getSelectedOptionsTexts(WebElement element) {
@@ -21,6 +21,13 @@ public class ErrorMessages {
     return "\nTimeout: " + String.format("%.3f", timeoutMs / 1000.0) + " s.";
   }
 
+  protected static String pageIdle(long pageIdleMs) {
+    if (pageIdleMs <= 0) {
+      return "";
+    }
+    return "\nStopped waiting: page has been idle for " + pageIdleMs + " ms., condition cannot be satisfied anymore";
+  }
+
   public static String actualValue(Condition condition, WebElement element) {
     if (element != null) {
       String actualValue = condition.actualValue(element);
@@ -8,6 +8,7 @@ import java.util.List;
 import static com.codeborne.selenide.Selenide.getJavascriptErrors;
 import static com.codeborne.selenide.ex.ErrorMessages.causedBy;
 import static com.codeborne.selenide.ex.ErrorMessages.jsErrors;
+import static com.codeborne.selenide.ex.ErrorMessages.pageIdle;
 import static com.codeborne.selenide.ex.ErrorMessages.screenshot;
 import static com.codeborne.selenide.ex.ErrorMessages.timeout;
 
@@ -17,6 +18,14 @@ public class UIAssertionError extends AssertionError {
   protected List<String> jsErrors;
   public long timeoutMs;
 
+  /**
+   * If positive, waiting has been stopped before timeout because the page had been idle for this number of milliseconds
+   * (see {@link com.codeborne.selenide.Configuration#idlePageTimeout})
+   *
+   * @since Selenide 4.11.3
+   */
+  public long pageIdleMs;
+
   public UIAssertionError(Throwable cause) {
     this(cause.getClass().getSimpleName() + ": " + cause.getMessage(), cause);
   }
@@ -35,7 +44,7 @@ public class UIAssertionError extends AssertionError {
   }
 
   protected String uiDetails() {
-    return screenshot(screenshot) + jsErrors(jsErrors) + timeout(timeoutMs) + causedBy(getCause());
+    return screenshot(screenshot) + jsErrors(jsErrors) + timeout(timeoutMs) + pageIdle(pageIdleMs) + causedBy(getCause());
   }
 
   /**
@@ -0,0 +1,224 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Limits number of browsers opened at the same time on this host by all JVMs (see {@link Configuration#maxBrowsersPerHost}).
+ *
+ * Every browser holds a lock on one of slot files ("slot-0.lock", "slot-1.lock", ...) in {@link Configuration#browserSlotsFolder}.
+ * Waiting requests are queued: inside the JVM by a fair lock, and between JVMs by an exclusive lock on "queue.lock"
+ * file, so that only the first waiting request of the host polls for a free slot.
+ * File locks are released by the operating system if JVM dies.
+ *
+ * File locks belong to the whole JVM process, and closing any channel of a file releases all locks of the process on it.
+ * That's why every slot file is opened only once per JVM, and slots taken by this JVM are remembered instead of being probed.
+ *
+ * @since Selenide 4.11.3
+ */
+public class BrowserSlots {
+  private static final Logger log = Logger.getLogger(BrowserSlots.class.getName());
+  private static final long POLLING_INTERVAL_MS = 100;
+
+  public static BrowserSlots instance = new BrowserSlots();
+
+  private final ReentrantLock queue = new ReentrantLock(true);
+  private final Map<WebDriver, Slot> slotsByWebDriver = Collections.synchronizedMap(new IdentityHashMap<>());
+  private final Map<File, FileChannel> channels = new ConcurrentHashMap<>();
+  private final Set<File> slotsTakenByThisJvm = ConcurrentHashMap.newKeySet();
+
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final AtomicLong acquired = new AtomicLong();
+  private final AtomicLong totalWaitMs = new AtomicLong();
+  private final AtomicLong maxWaitMs = new AtomicLong();
+
+  /**
+   * Wait until some browser slot is free and take it.
+   *
+   * @return the slot, or null if number of browsers is not limited
+   * @throws WebDriverException if slot files cannot be locked or the thread has been interrupted
+   */
+  Slot acquire() {
+    int maxBrowsers = Configuration.maxBrowsersPerHost;
+    if (maxBrowsers <= 0) return null;
+
+    File folder = new File(Configuration.browserSlotsFolder);
+    folder.mkdirs();
+
+    long start = System.currentTimeMillis();
+    waiting.incrementAndGet();
+    queue.lock();
+    try (FileChannel queueFile = open(new File(folder, "queue.lock"))) {
+      queueFile.lock(); // released when the channel is closed
+      return waitForFreeSlot(folder, maxBrowsers, start);
+    }
+    catch (IOException e) {
+      throw new WebDriverException("Cannot take browser slot in " + folder.getAbsolutePath(), e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WebDriverException("Interrupted while waiting for browser slot in " + folder.getAbsolutePath(), e);
+    }
+    finally {
+      queue.unlock();
+      waiting.decrementAndGet();
+    }
+  }
+
+  private Slot waitForFreeSlot(File folder, int maxBrowsers, long start) throws IOException, InterruptedException {
+    for (long attempt = 0; ; attempt++) {
+      releaseSlotsOfQuitBrowsers();
+      for (int i = 0; i < maxBrowsers; i++) {
+        Slot slot = tryLock(new File(folder, "slot-" + i + ".lock"));
+        if (slot != null) {
+          recordWait(System.currentTimeMillis() - start);
+          return slot;
+        }
+      }
+      if (attempt % 300 == 0) {
+        log.info("Waiting for one of " + maxBrowsers + " browser slots in " + folder.getAbsolutePath());
+      }
+      Thread.sleep(POLLING_INTERVAL_MS);
+    }
+  }
+
+  private Slot tryLock(File file) throws IOException {
+    if (slotsTakenByThisJvm.contains(file)) return null;
+
+    FileChannel channel = channels.get(file);
+    if (channel == null) {
+      channel = open(file);
+      channels.put(file, channel);
+    }
+
+    FileLock lock = channel.tryLock();
+    if (lock == null) return null;
+
+    slotsTakenByThisJvm.add(file);
+    return new Slot(file, lock);
+  }
+
+  /**
+   * Browsers closed by {@code webdriver.quit()} instead of {@code closeWebDriver()} still hold their slots.
+   * Detect them by the session id that {@link RemoteWebDriver} clears on quit.
+   */
+  private void releaseSlotsOfQuitBrowsers() {
+    synchronized (slotsByWebDriver) {
+      for (Iterator<Map.Entry<WebDriver, Slot>> it = slotsByWebDriver.entrySet().iterator(); it.hasNext(); ) {
+        Map.Entry<WebDriver, Slot> entry = it.next();
+        if (hasQuit(entry.getKey())) {
+          Slot slot = entry.getValue();
+          log.info("Browser has been closed without closeWebDriver(), release " + slot);
+          it.remove();
+          release(slot);
+        }
+      }
+    }
+  }
+
+  static boolean hasQuit(WebDriver webDriver) {
+    WebDriver driver = webDriver instanceof WrapsDriver ? ((WrapsDriver) webDriver).getWrappedDriver() : webDriver;
+    return driver instanceof RemoteWebDriver && ((RemoteWebDriver) driver).getSessionId() == null;
+  }
+
+  private FileChannel open(File file) throws IOException {
+    return FileChannel.open(file.toPath(), CREATE, WRITE);
+  }
+
+  private void recordWait(long waitMs) {
+    acquired.incrementAndGet();
+    totalWaitMs.addAndGet(waitMs);
+    maxWaitMs.accumulateAndGet(waitMs, Math::max);
+    if (waitMs >= POLLING_INTERVAL_MS) {
+      log.info("Waited " + waitMs + " ms for browser slot");
+    }
+  }
+
+  /**
+   * Remember that the slot is taken by given webdriver, to free it by {@link #release(WebDriver)}
+   */
+  void assign(Slot slot, WebDriver webDriver) {
+    if (slot != null) {
+      slotsByWebDriver.put(webDriver, slot);
+    }
+  }
+
+  void release(WebDriver webDriver) {
+    release(slotsByWebDriver.remove(webDriver));
+  }
+
+  void release(Slot slot) {
+    if (slot != null) {
+      slot.release();
+      slotsTakenByThisJvm.remove(slot.file);
+    }
+  }
+
+  /**
+   * @return number of threads waiting for a browser slot at the moment
+   */
+  public int getWaitingRequests() {
+    return waiting.get();
+  }
+
+  /**
+   * @return number of browser slots taken by this JVM since start
+   */
+  public long getAcquiredSlots() {
+    return acquired.get();
+  }
+
+  public long getTotalWaitMs() {
+    return totalWaitMs.get();
+  }
+
+  public long getMaxWaitMs() {
+    return maxWaitMs.get();
+  }
+
+  static class Slot {
+    private final File file;
+    private final FileLock lock;
+
+    Slot(File file, FileLock lock) {
+      this.file = file;
+      this.lock = lock;
+    }
+
+    void release() {
+      try {
+        lock.release();
+      }
+      catch (IOException e) {
+        log.log(Level.WARNING, "Failed to release browser slot " + file.getAbsolutePath(), e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return file.getName();
+    }
+  }
+}
@@ -39,6 +39,14 @@ public class BySelectorCollection implements WebElementsCollection {
     return actualElements;
   }
 
+  SearchContext getParent() {
+    return parent;
+  }
+
+  By getSelector() {
+    return selector;
+  }
+
   @Override
   public String description() {
     return parent == null ? Describe.selector(selector) :
@@ -0,0 +1,92 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+import static com.codeborne.selenide.WebDriverRunner.hasWebDriverStarted;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Web element found by {@link ElementFinder}, reused by next commands
+ * until the page changes (see {@link com.codeborne.selenide.Configuration#cacheElements}).
+ *
+ * All cached elements of a browser are invalidated at once by navigation, switching to another frame or window,
+ * or by any {@link StaleElementReferenceException}. Elements cached for other browsers are kept.
+ *
+ * @since Selenide 4.11.3
+ */
+public class CachedElement {
+  private static final Map<WebDriver, AtomicLong> pageGenerations = synchronizedMap(new WeakHashMap<>());
+
+  private volatile Entry entry;
+
+  /**
+   * Forget all cached elements of the current thread's webdriver, e.g. because the page has been changed.
+   */
+  public static void invalidateAll() {
+    if (hasWebDriverStarted()) {
+      pageGeneration(getWebDriver()).incrementAndGet();
+    }
+  }
+
+  private static AtomicLong pageGeneration(WebDriver webdriver) {
+    return pageGenerations.computeIfAbsent(webdriver, key -> new AtomicLong());
+  }
+
+  /**
+   * Forget all cached elements if given error (or its cause) means that some element is stale
+   */
+  static void invalidateIfStale(Throwable error) {
+    for (Throwable e = error; e != null; e = e.getCause()) {
+      if (e instanceof StaleElementReferenceException) {
+        invalidateAll();
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return cached element or null if it's not found yet or is invalidated
+   */
+  WebElement get() {
+    Entry cached = entry;
+    return cached != null && cached.isValid() && cached.webdriver == getWebDriver() ? cached.element : null;
+  }
+
+  void put(WebElement element) {
+    if (element == null) {
+      entry = null;
+      return;
+    }
+    WebDriver webdriver = getWebDriver();
+    entry = new Entry(webdriver, element, pageGeneration(webdriver));
+  }
+
+  void clear() {
+    entry = null;
+  }
+
+  private static class Entry {
+    private final WebDriver webdriver;
+    private final WebElement element;
+    private final AtomicLong pageGeneration;
+    private final long generation;
+
+    Entry(WebDriver webdriver, WebElement element, AtomicLong pageGeneration) {
+      this.webdriver = webdriver;
+      this.element = element;
+      this.pageGeneration = pageGeneration;
+      this.generation = pageGeneration.get();
+    }
+
+    boolean isValid() {
+      return pageGeneration.get() == generation;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.codeborne.selenide.Configuration.SelectorMode.CSS;
+import static com.codeborne.selenide.Configuration.cacheElements;
+import static com.codeborne.selenide.Configuration.selectorMode;
+import static java.util.Arrays.asList;
+
+/**
+ * Finds nested element like {@code $("#grid").$$(".row").get(5).$(".cell", 2)} in a single JavaScript call
+ * instead of finding every level separately.
+ *
+ * Only chains of {@link ElementFinder} and {@link CollectionElement} of {@link BySelectorCollection}
+ * with standard selectors (css, xpath, id, name, class name, tag name) are supported.
+ * For other chains {@link #resolve(ElementFinder)} returns null, and the element is found level by level as usual.
+ *
+ * @since Selenide 4.11.3
+ */
+class ChainResolver {
+  static ChainResolver instance = new ChainResolver();
+
+  /**
+   * @return found element, or null if the chain cannot be resolved by JavaScript
+   * @throws NoSuchElementException if some level of the chain is not found (its description is in the message)
+   */
+  WebElement resolve(ElementFinder finder) throws NoSuchElementException {
+    Chain chain = chainOf(finder);
+    if (chain == null) return null;
+
+    Object result = SelenideJs.instance.call("find", chain.compile(), chain.root);
+    if (result instanceof WebElement) {
+      return (WebElement) result;
+    }
+    if (result instanceof Number) {
+      throw new NoSuchElementException("Cannot locate an element " + chain.levels.get(((Number) result).intValue()).description);
+    }
+    return null;
+  }
+
+  /**
+   * @return levels of the chain, or null if the chain cannot be resolved by JavaScript
+   */
+  Chain chainOf(WebElementSource source) {
+    if (selectorMode != CSS) return null;
+
+    LinkedList<Level> levels = new LinkedList<>();
+    SearchContext root = collectLevels(source, levels);
+    return levels.isEmpty() ? null : new Chain(levels, root);
+  }
+
+  /**
+   * Collects levels of the chain (from the outermost to the innermost one) into {@code levels}
+   *
+   * @return the root element to start search from (null means the whole document)
+   */
+  private SearchContext collectLevels(WebElementSource source, LinkedList<Level> levels) {
+    SearchContext parent;
+    if (source instanceof ElementFinder) {
+      ElementFinder finder = (ElementFinder) source;
+      if (cacheElements && !levels.isEmpty() && finder.getCachedElement() != null) {
+        return finder.getCachedElement();
+      }
+      Level level = Level.of(finder.getCriteria(), finder.getIndex(), finder.getSearchCriteria());
+      if (level == null) return unsupported(levels);
+      levels.addFirst(level);
+      parent = finder.getParent();
+    }
+    else if (source instanceof CollectionElement
+        && ((CollectionElement) source).getCollection() instanceof BySelectorCollection) {
+      CollectionElement element = (CollectionElement) source;
+      BySelectorCollection collection = (BySelectorCollection) element.getCollection();
+      Level level = Level.of(collection.getSelector(), element.getIndex(), element.getSearchCriteria());
+      if (level == null) return unsupported(levels);
+      levels.addFirst(level);
+      parent = collection.getParent();
+    }
+    else {
+      return unsupported(levels);
+    }
+
+    if (parent == null) {
+      return null;
+    }
+    WebElementSource parentSource = sourceOf(parent);
+    if (parentSource != null) {
+      return collectLevels(parentSource, levels);
+    }
+    if (parent instanceof WebElement) {
+      return parent;
+    }
+    return unsupported(levels);
+  }
+
+  private SearchContext unsupported(List<Level> levels) {
+    levels.clear();
+    return null;
+  }
+
+  private WebElementSource sourceOf(SearchContext element) {
+    if (!Proxy.isProxyClass(element.getClass())) return null;
+    InvocationHandler handler = Proxy.getInvocationHandler(element);
+    return handler instanceof SelenideElementProxy ? ((SelenideElementProxy) handler).getWebElementSource() : null;
+  }
+
+  static class Chain {
+    final List<Level> levels;
+    final SearchContext root;
+
+    private Chain(List<Level> levels, SearchContext root) {
+      this.levels = levels;
+      this.root = root;
+    }
+
+    /**
+     * @return levels in the form expected by JavaScript: [type, selector, index] from the outermost to the innermost one
+     */
+    List<List<Object>> compile() {
+      List<List<Object>> compiled = new ArrayList<>(levels.size());
+      for (Level level : levels) {
+        compiled.add(asList(level.type, level.selector, level.index));
+      }
+      return compiled;
+    }
+  }
+
+  static class Level {
+    final String type;
+    final String selector;
+    final int index;
+    final String description;
+
+    private Level(String type, String selector, int index, String description) {
+      this.type = type;
+      this.selector = selector;
+      this.index = index;
+      this.description = description;
+    }
+
+    static Level of(By criteria, int index, String description) {
+      String by = criteria.toString();
+      if (by.startsWith("By.cssSelector: ")) return css(by.substring("By.cssSelector: ".length()), index, description);
+      if (by.startsWith("By.selector: ")) return css(by.substring("By.selector: ".length()), index, description);
+      if (by.startsWith("By.id: ")) return css(attribute("id", by.substring("By.id: ".length())), index, description);
+      if (by.startsWith("By.name: ")) return css(attribute("name", by.substring("By.name: ".length())), index, description);
+      if (by.startsWith("By.tagName: ")) return css(by.substring("By.tagName: ".length()), index, description);
+      if (by.startsWith("By.className: ")) {
+        return css("*[class~=" + quote(by.substring("By.className: ".length())) + "]", index, description);
+      }
+      if (by.startsWith("By.xpath: ")) return new Level("xpath", by.substring("By.xpath: ".length()), index, description);
+      return null;
+    }
+
+    private static Level css(String selector, int index, String description) {
+      return new Level("css", selector, index, description);
+    }
+
+    private static String attribute(String name, String value) {
+      return "*[" + name + "=" + quote(value) + "]";
+    }
+
+    private static String quote(String value) {
+      return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+  }
+}
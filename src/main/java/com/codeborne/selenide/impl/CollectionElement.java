@@ -37,6 +37,14 @@ public class CollectionElement extends WebElementSource {
     }
   }
 
+  WebElementsCollection getCollection() {
+    return collection;
+  }
+
+  int getIndex() {
+    return index;
+  }
+
   @Override
   public String getSearchCriteria() {
     return collection.description() + '[' + index  + ']';
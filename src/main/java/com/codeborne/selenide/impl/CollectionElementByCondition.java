@@ -28,6 +28,14 @@ public class CollectionElementByCondition extends WebElementSource {
 
   @Override
   public WebElement getWebElement() {
+    List<WebElement> foundInBrowser = CollectionQuery.instance.findFirst(collection, condition);
+    if (foundInBrowser != null) {
+      if (foundInBrowser.isEmpty()) {
+        throw new ElementNotFound(getSearchCriteria(), condition);
+      }
+      return foundInBrowser.get(0);
+    }
+
     List<WebElement> list = collection.getActualElements();
 
     for (WebElement element : list) {
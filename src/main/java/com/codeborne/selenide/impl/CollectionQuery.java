@@ -0,0 +1,140 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Configuration;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.Configuration.SelectorMode.CSS;
+import static com.codeborne.selenide.Configuration.filterCollectionsInBrowser;
+import static com.codeborne.selenide.Configuration.selectorMode;
+import static com.codeborne.selenide.WebDriverRunner.supportsJavascript;
+
+/**
+ * Turns collection chains like {@code $$(".row").filter(visible).exclude(cssClass("x")).first(5)}
+ * into a single JavaScript call which returns only the matching elements.
+ *
+ * Supported are {@link BySelectorCollection} with standard selectors (css, xpath, id, name, class name, tag name),
+ * {@link FilteringCollection} with conditions that can be checked by JavaScript (see {@link Condition#toJavaScript()}),
+ * {@link HeadOfCollection} and {@link TailOfCollection}.
+ * For other chains methods return null, and the collection is filtered by webdriver calls as usual.
+ * All methods return null unless {@link Configuration#filterCollectionsInBrowser} is on.
+ *
+ * @since Selenide 4.11.3
+ */
+public class CollectionQuery {
+  static final String jsCodeToFindRoot =
+      "var found = __selenide.findAll(arguments[0] || document, arguments[1], arguments[2]);\n";
+
+  public static CollectionQuery instance = new CollectionQuery();
+
+  /**
+   * @return number of elements in the collection counted by JavaScript (elements are not fetched from browser),
+   * or null if the collection cannot be queried by JavaScript
+   */
+  public Integer count(WebElementsCollection collection) {
+    if (!filterCollectionsInBrowser || selectorMode != CSS || !supportsJavascript()) return null;
+
+    List<String> steps = new ArrayList<>();
+    BySelectorCollection root = plan(collection, steps);
+    if (root == null) return null;
+
+    Number count = execute(root, steps, "return found.length;");
+    return count == null ? null : count.intValue();
+  }
+
+  /**
+   * @return elements of the collection, or null if the collection cannot be queried by JavaScript
+   */
+  List<WebElement> find(WebElementsCollection collection) {
+    if (!filterCollectionsInBrowser || selectorMode != CSS) return null;
+
+    List<String> steps = new ArrayList<>();
+    BySelectorCollection root = plan(collection, steps);
+    return root == null ? null : toElements(execute(root, steps, "return found;"));
+  }
+
+  /**
+   * @return list with the first element of the collection matching given condition (or empty list),
+   * or null if the collection or the condition cannot be queried by JavaScript
+   */
+  List<WebElement> findFirst(WebElementsCollection collection, Condition condition) {
+    if (!filterCollectionsInBrowser || selectorMode != CSS) return null;
+
+    List<String> steps = new ArrayList<>();
+    BySelectorCollection root = plan(collection, steps);
+    String predicate = condition.toJavaScript();
+    if (root == null || predicate == null) return null;
+
+    steps.add(filter(predicate));
+    steps.add("found = found.slice(0, 1);\n");
+    return toElements(execute(root, steps, "return found;"));
+  }
+
+  /**
+   * Adds JavaScript steps of the collection chain (from the innermost collection to the outermost one) into {@code steps}
+   *
+   * @return the innermost collection to start search from, or null if the chain is not supported
+   */
+  private BySelectorCollection plan(WebElementsCollection collection, List<String> steps) {
+    if (collection instanceof BySelectorCollection) {
+      return (BySelectorCollection) collection;
+    }
+    if (collection instanceof FilteringCollection) {
+      FilteringCollection filtering = (FilteringCollection) collection;
+      String predicate = filtering.getFilter() instanceof Condition ? ((Condition) filtering.getFilter()).toJavaScript() : null;
+      return predicate == null ? null : plan(filtering.getOriginalCollection(), steps, filter(predicate));
+    }
+    if (collection instanceof HeadOfCollection) {
+      HeadOfCollection head = (HeadOfCollection) collection;
+      return plan(head.getOriginalCollection(), steps, "found = found.slice(0, " + head.getSize() + ");\n");
+    }
+    if (collection instanceof TailOfCollection) {
+      TailOfCollection tail = (TailOfCollection) collection;
+      return plan(tail.getOriginalCollection(), steps, "found = found.slice(Math.max(found.length - " + tail.getSize() + ", 0));\n");
+    }
+    return null;
+  }
+
+  private BySelectorCollection plan(WebElementsCollection original, List<String> steps, String step) {
+    BySelectorCollection root = plan(original, steps);
+    steps.add(step);
+    return root;
+  }
+
+  private String filter(String predicate) {
+    return "found = found.filter(function(e) {return " + predicate + ";});\n";
+  }
+
+  /**
+   * @return result of {@code returnStatement}, or null if the root collection is not supported
+   */
+  private <T> T execute(BySelectorCollection root, List<String> steps, String returnStatement) {
+    SearchContext parent = root.getParent();
+    if (parent != null && !(parent instanceof WebElement)) return null;
+
+    ChainResolver.Level level = ChainResolver.Level.of(root.getSelector(), 0, root.description());
+    if (level == null) return null;
+
+    StringBuilder js = new StringBuilder(jsCodeToFindRoot);
+    for (String step : steps) {
+      js.append(step);
+    }
+    js.append(returnStatement);
+
+    return SelenideJs.instance.execute(js.toString(), parent, level.type, level.selector);
+  }
+
+  private List<WebElement> toElements(List<?> found) {
+    if (found == null) return null;
+
+    List<WebElement> elements = new ArrayList<>(found.size());
+    for (Object element : found) {
+      elements.add((WebElement) element);
+    }
+    return elements;
+  }
+}
@@ -0,0 +1,232 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.BatchableCommand;
+import com.codeborne.selenide.commands.Commands;
+import com.codeborne.selenide.logevents.SelenideLog;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.util.Arrays.asList;
+
+/**
+ * Queues element commands (see {@link BatchableCommand}) and executes them in a single JavaScript call.
+ *
+ * The queue is flushed before any other command or access to the browser via {@link com.codeborne.selenide.WebDriverRunner},
+ * and at the end of {@link #execute(Runnable)}.
+ * Elements are found by the same JavaScript call when possible (see {@link ChainResolver}).
+ * If some element is not found or not ready for the action (invisible, readonly, disabled etc.),
+ * or some element passed to the JavaScript call has become stale,
+ * the corresponding command is executed as usual - with waiting, retries and error reporting.
+ * Commands executed by the browser are never repeated.
+ * Steps of commands executed by the batch are reported to {@link SelenideLogger} when the JavaScript call returns.
+ *
+ * @since Selenide 4.11.3
+ */
+public class CommandsBatch {
+  private static final Logger log = Logger.getLogger(CommandsBatch.class.getName());
+  private static final ThreadLocal<CommandsBatch> current = new ThreadLocal<>();
+
+  private final List<QueuedCommand> queue = new ArrayList<>();
+
+  /**
+   * Execute given actions, sending batchable commands to browser in as few calls as possible.
+   * Nested batches are executed as a part of the outer batch.
+   */
+  public static void execute(Runnable actions) {
+    if (current.get() != null) {
+      actions.run();
+      return;
+    }
+
+    CommandsBatch batch = new CommandsBatch();
+    current.set(batch);
+    try {
+      actions.run();
+    }
+    catch (RuntimeException | Error e) {
+      try {
+        batch.flush();
+      }
+      catch (RuntimeException | Error flushFailure) {
+        e.addSuppressed(flushFailure);
+      }
+      throw e;
+    }
+    finally {
+      current.remove();
+    }
+    batch.flush();
+  }
+
+  /**
+   * Execute commands queued by the batch of the current thread (if any)
+   */
+  public static void flushCurrent() {
+    CommandsBatch batch = current.get();
+    if (batch != null) {
+      batch.flush();
+    }
+  }
+
+  /**
+   * @return batch being executed in the current thread, or null if there is no active batch
+   */
+  static CommandsBatch current() {
+    return current.get();
+  }
+
+  /**
+   * @return true if the command has been queued, false if it should be executed immediately
+   */
+  boolean enqueue(Object proxy, WebElementSource source, Method method, Object[] args) {
+    if (!SelenideElement.class.isAssignableFrom(method.getDeclaringClass())) return false;
+
+    Command<?> command = Commands.getInstance().get(method.getName());
+    if (!(command instanceof BatchableCommand)) return false;
+
+    List<Object> action = ((BatchableCommand) command).toBatchAction(args);
+    if (action == null) return false;
+
+    queue.add(new QueuedCommand(proxy, source, method, args, action));
+    return true;
+  }
+
+  /**
+   * Execute all queued commands
+   */
+  void flush() {
+    if (queue.isEmpty()) return;
+
+    List<QueuedCommand> commands = new ArrayList<>(queue);
+    queue.clear();
+
+    CommandsBatch active = current.get();
+    current.remove();
+    try {
+      int next = 0;
+      while (next < commands.size()) {
+        next = executeStartingFrom(commands, next);
+      }
+    }
+    finally {
+      if (active != null) {
+        current.set(active);
+      }
+    }
+  }
+
+  /**
+   * @return index of the next command to execute
+   */
+  private int executeStartingFrom(List<QueuedCommand> commands, int from) {
+    List<List<Object>> actions = new ArrayList<>();
+    for (int i = from; i < commands.size(); i++) {
+      List<Object> action = commands.get(i).toScriptArgument();
+      if (action == null) break;
+      actions.add(action);
+    }
+
+    int executed = actions.isEmpty() ? 0 : executeActionsOrNone(actions);
+    for (int i = from; i < from + executed; i++) {
+      commands.get(i).logExecuted();
+    }
+
+    int next = from + executed;
+    if (next < commands.size()) {
+      commands.get(next).executeAsUsual();
+      next++;
+    }
+    return next;
+  }
+
+  /**
+   * Webdriver checks elements passed to JavaScript before executing it,
+   * so if some element is stale, none of the actions has been executed yet.
+   */
+  private int executeActionsOrNone(List<List<Object>> actions) {
+    try {
+      return executeActions(actions);
+    }
+    catch (StaleElementReferenceException e) {
+      log.fine("Failed to execute batch, fall back to usual commands: " + e);
+      return 0;
+    }
+  }
+
+  /**
+   * @return number of successfully executed actions
+   */
+  int executeActions(List<List<Object>> actions) {
+    Object firstNotExecuted = SelenideJs.instance.call("batch", actions);
+    return firstNotExecuted == null ? actions.size() : ((Number) firstNotExecuted).intValue();
+  }
+
+  private static class QueuedCommand {
+    private final Object proxy;
+    private final WebElementSource source;
+    private final Method method;
+    private final Object[] args;
+    private final List<Object> action;
+
+    QueuedCommand(Object proxy, WebElementSource source, Method method, Object[] args, List<Object> action) {
+      this.proxy = proxy;
+      this.source = source;
+      this.method = method;
+      this.args = args;
+      this.action = action;
+    }
+
+    void logExecuted() {
+      SelenideLog log = SelenideLogger.beginStep(source.getSearchCriteria(), method.getName(), args);
+      SelenideLogger.commitStep(log, PASS);
+    }
+
+    /**
+     * @return action in the form expected by "selenide.js": [element, levels, root, action, args]
+     * (element is null if it should be found by levels of its chain), or null if the element is not found
+     */
+    List<Object> toScriptArgument() {
+      ChainResolver.Chain chain = ChainResolver.instance.chainOf(source);
+      if (chain != null) {
+        return asList(null, chain.compile(), chain.root, action.get(0), action.subList(1, action.size()));
+      }
+      WebElement element = findElement();
+      return element == null ? null : asList(element, null, null, action.get(0), action.subList(1, action.size()));
+    }
+
+    private WebElement findElement() {
+      try {
+        return source.getWebElement();
+      }
+      catch (WebDriverException | IndexOutOfBoundsException | AssertionError elementNotFound) {
+        return null;
+      }
+    }
+
+    void executeAsUsual() {
+      try {
+        method.invoke(proxy, args);
+      }
+      catch (InvocationTargetException e) {
+        Throwable cause = e.getTargetException();
+        if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        throw new RuntimeException(cause);
+      }
+      catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
@@ -11,7 +11,6 @@ import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
-import static com.codeborne.selenide.Selenide.executeJavaScript;
 import static com.codeborne.selenide.WebDriverRunner.isHtmlUnit;
 import static com.codeborne.selenide.WebDriverRunner.supportsJavascript;
 
@@ -36,16 +35,7 @@ public class Describe {
   }
 
   private Describe appendAllAttributes() {
-    Map<String, String> map = executeJavaScript(
-        "var s = {};" +
-            "var attrs = arguments[0].attributes;" +
-            "for (var i = 0; i < attrs.length; i++) {" +
-            "   var a = attrs[i]; " +
-            "   if (a.name != 'style') {" +
-            "     s[a.name] = a.value;" +
-            "   }" +
-            "}" +
-            "return s;", element);
+    Map<String, String> map = SelenideJs.instance.call("attributes", element);
 
     SortedMap<String, String> sortedByName = new TreeMap<>();
     if (map != null) {
@@ -1,9 +1,10 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.logevents.FlightRecording;
+import com.codeborne.selenide.logevents.SelenideFlightRecorder;
 import com.codeborne.selenide.proxy.FileDownloadFilter;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
-import com.google.common.base.Predicate;
 import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.WebElement;
 
@@ -12,21 +13,42 @@ import java.io.FileNotFoundException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
 
 public class DownloadFileWithProxyServer {
   private static final Logger log = Logger.getLogger(DownloadFileWithProxyServer.class.getName());
-  Waiter waiter = new Waiter();
-
   public File download(WebElementSource anyClickableElement, 
                        WebElement clickable, SelenideProxyServer proxyServer) throws FileNotFoundException {
-    return clickAndInterceptFileByProxyServer(anyClickableElement, clickable, proxyServer);
+    return download(anyClickableElement, clickable, proxyServer, 1, file -> true).get(0);
+  }
+
+  /**
+   * Click the element and wait until {@code count} files matching {@code fileFilter} are downloaded
+   *
+   * @return the downloaded files matching {@code fileFilter}
+   * @throws FileNotFoundException if less than {@code count} files have been downloaded in {@link Configuration#timeout}
+   * @since Selenide 4.11.3
+   */
+  public List<File> download(WebElementSource anyClickableElement, WebElement clickable, SelenideProxyServer proxyServer,
+                             int count, Predicate<File> fileFilter) throws FileNotFoundException {
+    FlightRecording recording = SelenideFlightRecorder.beginDownload(anyClickableElement.getSearchCriteria());
+    try {
+      List<File> files = clickAndInterceptFilesByProxyServer(anyClickableElement, clickable, proxyServer, count, fileFilter);
+      recording.status(PASS.name());
+      return files;
+    }
+    finally {
+      recording.commit();
+    }
   }
   
-  private File clickAndInterceptFileByProxyServer(WebElementSource anyClickableElement, WebElement clickable,
-                                          SelenideProxyServer proxyServer) throws FileNotFoundException {
+  private List<File> clickAndInterceptFilesByProxyServer(WebElementSource anyClickableElement, WebElement clickable,
+                                                         SelenideProxyServer proxyServer,
+                                                         int count, Predicate<File> fileFilter) throws FileNotFoundException {
     String currentWindowHandle = getWebDriver().getWindowHandle();
     Set<String> currentWindows = getWebDriver().getWindowHandles();
 
@@ -35,8 +57,8 @@ public class DownloadFileWithProxyServer {
     try {
       clickable.click();
 
-      waiter.wait(filter, new HasDownloads());
-      return firstDownloadedFile(anyClickableElement, filter);
+      List<File> files = filter.waitForDownloads(count, fileFilter, Configuration.timeout);
+      return checkDownloadedFiles(anyClickableElement, filter, files, count);
     }
     finally {
       filter.deactivate();
@@ -69,24 +91,19 @@ public class DownloadFileWithProxyServer {
     }
   }
   
-  private static class HasDownloads implements Predicate<FileDownloadFilter> {
-    @Override
-    public boolean apply(FileDownloadFilter filter) {
-      return !filter.getDownloadedFiles().isEmpty();
-    }
-  }
-
-  private File firstDownloadedFile(WebElementSource anyClickableElement, 
-                                   FileDownloadFilter filter) throws FileNotFoundException {
-    List<File> files = filter.getDownloadedFiles();
+  private List<File> checkDownloadedFiles(WebElementSource anyClickableElement, FileDownloadFilter filter,
+                                          List<File> files, int count) throws FileNotFoundException {
     if (files.isEmpty()) {
       throw new FileNotFoundException("Failed to download file " + anyClickableElement +
           " in " + Configuration.timeout + " ms." + filter.getResponses());
-
     }
-    
-    log.info("Downloaded file: " + files.get(0).getAbsolutePath());
+    if (files.size() < count) {
+      throw new FileNotFoundException("Downloaded " + files.size() + " of " + count + " files " + anyClickableElement +
+          " in " + Configuration.timeout + " ms." + filter.getResponses());
+    }
+
+    log.info("Downloaded files: " + files);
     log.info("Just in case, all intercepted responses: " + filter.getResponses());
-    return files.get(0);
+    return files;
   }
 }
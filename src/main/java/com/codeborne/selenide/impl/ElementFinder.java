@@ -3,6 +3,7 @@ package com.codeborne.selenide.impl;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
+import com.codeborne.selenide.ex.UIAssertionError;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
@@ -12,6 +13,9 @@ import java.lang.reflect.Proxy;
 import java.util.List;
 
 import static com.codeborne.selenide.Condition.exist;
+import static com.codeborne.selenide.Condition.not;
+import static com.codeborne.selenide.Configuration.cacheElements;
+import static com.codeborne.selenide.Configuration.resolveNestedElementsByJs;
 import static com.codeborne.selenide.Selenide.$;
 import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
 import static java.lang.Thread.currentThread;
@@ -36,6 +40,7 @@ public class ElementFinder extends WebElementSource {
   private final SearchContext parent;
   private final By criteria;
   private final int index;
+  private final CachedElement cache = new CachedElement();
 
   ElementFinder(SearchContext parent, By criteria, int index) {
     this.parent = parent;
@@ -52,11 +57,59 @@ public class ElementFinder extends WebElementSource {
 
   @Override
   public WebElement getWebElement() throws NoSuchElementException, IndexOutOfBoundsException {
+    if (!cacheElements) {
+      return findWebElement();
+    }
+
+    WebElement cached = cache.get();
+    if (cached != null) {
+      return cached;
+    }
+    WebElement element = findWebElement();
+    cache.put(element);
+    return element;
+  }
+
+  private WebElement findWebElement() {
+    if (resolveNestedElementsByJs && parent instanceof SelenideElement) {
+      WebElement element = ChainResolver.instance.resolve(this);
+      if (element != null) return element;
+    }
     return index == 0 ?
         WebElementSelector.instance.findElement(getSearchContext(), criteria) :
         WebElementSelector.instance.findElements(getSearchContext(), criteria).get(index);
   }
 
+  /**
+   * Cached element could be replaced on the page by another one matching the same selector.
+   * A failed check is repeated with freshly found element, and a check that is satisfied by a missing element
+   * (like {@code disappear}) never uses the cache: a stale element would look like a missing one.
+   */
+  @Override
+  public WebElement checkConditions(String prefix, String message, List<Condition> conditions, boolean invert) {
+    if (cacheElements && cache.get() != null) {
+      if (anyAppliesToMissingElement(conditions, invert)) {
+        cache.clear();
+      }
+      else {
+        try {
+          return super.checkConditions(prefix, message, conditions, invert);
+        }
+        catch (UIAssertionError cachedElementDoesNotMatch) {
+          cache.clear();
+        }
+      }
+    }
+    return super.checkConditions(prefix, message, conditions, invert);
+  }
+
+  private boolean anyAppliesToMissingElement(List<Condition> conditions, boolean invert) {
+    for (Condition condition : conditions) {
+      if ((invert ? not(condition) : condition).applyNull()) return true;
+    }
+    return false;
+  }
+
   @Override
   public List<WebElement> findAll() throws NoSuchElementException, IndexOutOfBoundsException {
     return index == 0 ?
@@ -64,6 +117,22 @@ public class ElementFinder extends WebElementSource {
         super.findAll();
   }
 
+  SearchContext getParent() {
+    return parent;
+  }
+
+  By getCriteria() {
+    return criteria;
+  }
+
+  int getIndex() {
+    return index;
+  }
+
+  WebElement getCachedElement() {
+    return cache.get();
+  }
+
   private SearchContext getSearchContext() {
     return parent == null ? getWebDriver() :
         (parent instanceof SelenideElement) ? ((SelenideElement) parent).toWebElement() :
@@ -0,0 +1,184 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.internal.Coordinates;
+import org.openqa.selenium.interactions.internal.Locatable;
+import org.openqa.selenium.internal.WrapsElement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Web element which remembers its properties (tag name, text, attributes, css values, displayed/enabled/selected state)
+ * once they have been read.
+ *
+ * Created for a single condition check (one iteration of polling loop), so that conditions like
+ * {@code and(visible, text("..."))} and the following error message read every property at most once.
+ * Actions and location are always delegated to the real element.
+ * Snapshot is {@link Locatable} only if the real element is (see {@link #of(WebElement)}).
+ *
+ * @since Selenide 4.11.3
+ */
+class ElementSnapshot implements WebElement, WrapsElement {
+  private final WebElement delegate;
+
+  private String tagName;
+  private String text;
+  private Boolean displayed;
+  private Boolean enabled;
+  private Boolean selected;
+  private final Map<String, String> attributes = new HashMap<>();
+  private final Map<String, String> cssValues = new HashMap<>();
+
+  ElementSnapshot(WebElement delegate) {
+    this.delegate = delegate;
+  }
+
+  static ElementSnapshot of(WebElement element) {
+    return element instanceof Locatable ? new LocatableSnapshot(element) : new ElementSnapshot(element);
+  }
+
+  @Override
+  public WebElement getWrappedElement() {
+    return delegate;
+  }
+
+  @Override
+  public String getTagName() {
+    if (tagName == null) {
+      tagName = delegate.getTagName();
+    }
+    return tagName;
+  }
+
+  @Override
+  public String getText() {
+    if (text == null) {
+      text = delegate.getText();
+    }
+    return text;
+  }
+
+  @Override
+  public boolean isDisplayed() {
+    if (displayed == null) {
+      displayed = delegate.isDisplayed();
+    }
+    return displayed;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    if (enabled == null) {
+      enabled = delegate.isEnabled();
+    }
+    return enabled;
+  }
+
+  @Override
+  public boolean isSelected() {
+    if (selected == null) {
+      selected = delegate.isSelected();
+    }
+    return selected;
+  }
+
+  @Override
+  public String getAttribute(String name) {
+    if (!attributes.containsKey(name)) {
+      attributes.put(name, delegate.getAttribute(name));
+    }
+    return attributes.get(name);
+  }
+
+  @Override
+  public String getCssValue(String propertyName) {
+    if (!cssValues.containsKey(propertyName)) {
+      cssValues.put(propertyName, delegate.getCssValue(propertyName));
+    }
+    return cssValues.get(propertyName);
+  }
+
+  @Override
+  public void click() {
+    delegate.click();
+  }
+
+  @Override
+  public void submit() {
+    delegate.submit();
+  }
+
+  @Override
+  public void sendKeys(CharSequence... keysToSend) {
+    delegate.sendKeys(keysToSend);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    return delegate.findElements(by);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    return delegate.findElement(by);
+  }
+
+  @Override
+  public Point getLocation() {
+    return delegate.getLocation();
+  }
+
+  @Override
+  public Dimension getSize() {
+    return delegate.getSize();
+  }
+
+  @Override
+  public Rectangle getRect() {
+    return delegate.getRect();
+  }
+
+  @Override
+  public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+    return delegate.getScreenshotAs(target);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof ElementSnapshot ? delegate.equals(((ElementSnapshot) o).delegate) : delegate.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return delegate.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+
+  private static class LocatableSnapshot extends ElementSnapshot implements Locatable {
+    LocatableSnapshot(WebElement delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+      return ((Locatable) getWrappedElement()).getCoordinates();
+    }
+  }
+}
@@ -1,6 +1,5 @@
 package com.codeborne.selenide.impl;
 
-import com.codeborne.selenide.Selenide;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
@@ -13,20 +12,6 @@ public class Events {
   public static Events events = new Events();
 
   Logger log = Logger.getLogger(Events.class.getName());
-  final String jsCodeToTriggerEvent =
-      "var webElement = arguments[0];\n" +
-          "var eventNames = arguments[1];\n" +
-          "for (var i = 0; i < eventNames.length; i++) {" +
-          "  if (document.createEventObject) {\n" +  // IE
-          "    var evt = document.createEventObject();\n" +
-          "    webElement.fireEvent('on' + eventNames[i], evt);\n" +
-          "  }\n" +
-          "  else {\n" +
-          "    var evt = document.createEvent('HTMLEvents');\n " +
-          "    evt.initEvent(eventNames[i], true, true );\n " +
-          "    webElement.dispatchEvent(evt);\n" +
-          "  }\n" +
-          '}';
 
   public void fireChangeEvent(WebElement element) {
     if (supportsJavascript()) {
@@ -49,6 +34,6 @@ public class Events {
   }
 
   void executeJavaScript(WebElement element, String... event) {
-    Selenide.executeJavaScript(jsCodeToTriggerEvent, element, event);
+    SelenideJs.instance.call("fire", element, asList(event));
   }
 }
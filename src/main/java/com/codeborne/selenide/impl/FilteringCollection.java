@@ -28,10 +28,20 @@ public class FilteringCollection implements WebElementsCollection {
 
   @Override
   public List<WebElement> getActualElements() {
-    actualElements = new ArrayList<>(filter(originalCollection.getActualElements(), filter));
+    List<WebElement> foundInBrowser = CollectionQuery.instance.find(this);
+    actualElements = foundInBrowser != null ? foundInBrowser :
+        new ArrayList<>(filter(originalCollection.getActualElements(), filter));
     return actualElements;
   }
 
+  WebElementsCollection getOriginalCollection() {
+    return originalCollection;
+  }
+
+  Predicate<WebElement> getFilter() {
+    return filter;
+  }
+
   @Override
   public String description() {
     return originalCollection.description() + ".filter(" + filter + ')';
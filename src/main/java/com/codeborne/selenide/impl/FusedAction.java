@@ -0,0 +1,40 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import static com.codeborne.selenide.WebDriverRunner.supportsJavascript;
+import static java.util.Arrays.asList;
+
+/**
+ * Finds element, checks that it's visible and performs a JavaScript action (click, set value) in a single call,
+ * instead of separate calls for {@code findElement}, {@code isDisplayed} and the action itself.
+ *
+ * If the element is not found or not ready for the action, nothing is done in browser, and the command
+ * should be executed as usual: with waiting, retries and the same errors ({@code ElementNotFound}, {@code ElementShould} etc.)
+ *
+ * @see Configuration#fusedActions
+ * @since Selenide 4.11.3
+ */
+public class FusedAction {
+  public static FusedAction instance = new FusedAction();
+
+  /**
+   * @param action name of action in "selenide.js": "click" or "setValue"
+   * @return true if the action has been performed, false if the command should be executed as usual
+   */
+  public boolean execute(WebElementSource source, String action, Object... args) {
+    if (!Configuration.fusedActions || !supportsJavascript()) return false;
+
+    ChainResolver.Chain chain = ChainResolver.instance.chainOf(source);
+    if (chain == null) return false;
+
+    try {
+      Object performed = SelenideJs.instance.call("act", chain.compile(), chain.root, action, asList(args));
+      return Boolean.TRUE.equals(performed);
+    }
+    catch (StaleElementReferenceException parentElementHasDisappeared) {
+      return false;
+    }
+  }
+}
@@ -24,11 +24,24 @@ public class HeadOfCollection implements WebElementsCollection {
 
   @Override
   public List<WebElement> getActualElements() {
+    List<WebElement> foundInBrowser = CollectionQuery.instance.find(this);
+    if (foundInBrowser != null) {
+      this.actualElements = foundInBrowser;
+      return this.actualElements;
+    }
     List<WebElement> source = originalCollection.getActualElements();
     this.actualElements = source.subList(0, Math.min(source.size(), size));
     return this.actualElements;
   }
 
+  WebElementsCollection getOriginalCollection() {
+    return originalCollection;
+  }
+
+  int getSize() {
+    return size;
+  }
+
   @Override
   public String description() {
     return originalCollection.description() + ".first(" + size + ')';
@@ -4,30 +4,118 @@ import java.util.regex.Pattern;
 
 import static java.util.regex.Pattern.DOTALL;
 
+/**
+ * Text comparison that ignores differences in whitespace (sequences of spaces, tabs, new lines and non-breakable spaces
+ * are treated as a single space, leading and trailing whitespace is ignored).
+ *
+ * Comparisons scan both strings in place without creating normalized copies,
+ * because conditions are evaluated many times while waiting.
+ */
 public class Html {
+  private static final Pattern SPACES = Pattern.compile("[\\s\\n\\r\u00a0]+");
+
   public static Html text = new Html();
 
   public boolean matches(String text, String regex) {
-    return Pattern.compile(".*" + regex + ".*", DOTALL).matcher(text).matches();
+    return matches(text, pattern(regex));
+  }
+
+  /**
+   * @return pattern to be used by {@link #matches(String, Pattern)}, compiled once per condition
+   */
+  public Pattern pattern(String regex) {
+    return Pattern.compile(".*" + regex + ".*", DOTALL);
+  }
+
+  public boolean matches(String text, Pattern pattern) {
+    return pattern.matcher(text).matches();
   }
 
   public boolean contains(String text, String subtext) {
-    return reduceSpaces(text.toLowerCase()).contains(reduceSpaces(subtext.toLowerCase()));
+    return contains(text, subtext, true);
   }
 
   public boolean containsCaseSensitive(String text, String subtext) {
-    return reduceSpaces(text).contains(reduceSpaces(subtext));
+    return contains(text, subtext, false);
   }
 
   public boolean equals(String text, String subtext) {
-    return reduceSpaces(text).equalsIgnoreCase(reduceSpaces(subtext.toLowerCase()));
+    return equals(text, subtext, true);
   }
 
   public boolean equalsCaseSensitive(String text, String subtext) {
-    return reduceSpaces(text).equals(reduceSpaces(subtext));
+    return equals(text, subtext, false);
   }
 
   String reduceSpaces(String text) {
-    return text.replaceAll("[\\s\\n\\r\u00a0]+", " ").trim();
+    return SPACES.matcher(text).replaceAll(" ").trim();
+  }
+
+  private boolean equals(String text, String expected, boolean ignoreCase) {
+    int i = skipSpaces(text, 0);
+    int j = skipSpaces(expected, 0);
+    while (i < text.length() && j < expected.length()) {
+      char a = text.charAt(i);
+      char b = expected.charAt(j);
+      if (isSpace(a) && isSpace(b)) {
+        i = skipSpaces(text, i);
+        j = skipSpaces(expected, j);
+      }
+      else if (isSpace(a) || isSpace(b) || !sameChar(a, b, ignoreCase)) {
+        return false;
+      }
+      else {
+        i++;
+        j++;
+      }
+    }
+    return skipSpaces(text, i) == text.length() && skipSpaces(expected, j) == expected.length();
+  }
+
+  private boolean contains(String text, String subtext, boolean ignoreCase) {
+    int start = skipSpaces(subtext, 0);
+    if (start == subtext.length()) return true;
+
+    for (int i = 0; i < text.length(); i++) {
+      if (!isSpace(text.charAt(i)) && matchesAt(text, i, subtext, start, ignoreCase)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean matchesAt(String text, int i, String subtext, int j, boolean ignoreCase) {
+    while (j < subtext.length()) {
+      char b = subtext.charAt(j);
+      if (isSpace(b)) {
+        j = skipSpaces(subtext, j);
+        if (j == subtext.length()) return true;
+        if (i >= text.length() || !isSpace(text.charAt(i))) return false;
+        i = skipSpaces(text, i);
+      }
+      else if (i < text.length() && sameChar(text.charAt(i), b, ignoreCase)) {
+        i++;
+        j++;
+      }
+      else {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int skipSpaces(String text, int from) {
+    int i = from;
+    while (i < text.length() && isSpace(text.charAt(i))) i++;
+    return i;
+  }
+
+  private static boolean isSpace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B' || c == '\u00a0';
+  }
+
+  private static boolean sameChar(char a, char b, boolean ignoreCase) {
+    return a == b || ignoreCase &&
+        (Character.toUpperCase(a) == Character.toUpperCase(b) || Character.toLowerCase(a) == Character.toLowerCase(b));
   }
 }
@@ -0,0 +1,36 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import org.openqa.selenium.WebDriverException;
+
+import static com.codeborne.selenide.WebDriverRunner.supportsJavascript;
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * Detects that nothing on the page can change anymore, so that waiting for a condition can be stopped before timeout.
+ * Page activity (DOM changes, XHR/fetch requests, animations) is tracked in browser by "selenide.js".
+ *
+ * @see Configuration#idlePageTimeout
+ * @since Selenide 4.11.3
+ */
+public class IdlePageDetector {
+  public static IdlePageDetector instance = new IdlePageDetector();
+
+  /**
+   * @param waitingSince start time of the wait (as returned by {@link System#currentTimeMillis()})
+   * @return number of milliseconds the page has been idle for (not less than {@link Configuration#idlePageTimeout}),
+   * or 0 if the page is busy or detection is disabled
+   */
+  public long idleTime(long waitingSince) {
+    long idlePageTimeout = Configuration.idlePageTimeout;
+    if (idlePageTimeout <= 0 || currentTimeMillis() - waitingSince < idlePageTimeout || !supportsJavascript()) return 0;
+
+    try {
+      Number idleTime = SelenideJs.instance.call("idleTime");
+      return idleTime != null && idleTime.longValue() >= idlePageTimeout ? idleTime.longValue() : 0;
+    }
+    catch (WebDriverException | UnsupportedOperationException cannotExecuteJs) {
+      return 0;
+    }
+  }
+}
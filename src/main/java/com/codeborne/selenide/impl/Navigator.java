@@ -2,7 +2,10 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.logevents.SelenideLog;
 import com.codeborne.selenide.logevents.SelenideLogger;
+import com.codeborne.selenide.proxy.NetworkActivity;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 
@@ -11,7 +14,11 @@ import java.util.logging.Logger;
 
 import static com.codeborne.selenide.Configuration.baseUrl;
 import static com.codeborne.selenide.Configuration.captureJavascriptErrors;
+import static com.codeborne.selenide.Configuration.idlePageTimeout;
+import static com.codeborne.selenide.Configuration.timeout;
+import static com.codeborne.selenide.Configuration.waitForNetworkIdleAfterOpen;
 import static com.codeborne.selenide.WebDriverRunner.getAndCheckWebDriver;
+import static com.codeborne.selenide.WebDriverRunner.getSelenideProxy;
 import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
 import static com.codeborne.selenide.WebDriverRunner.isIE;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
@@ -67,7 +74,10 @@ public class Navigator {
     try {
       WebDriver webdriver = getAndCheckWebDriver();
       webdriver.navigate().to(url);
+      CachedElement.invalidateAll();
+      waitForNetworkIdleAfterOpen();
       collectJavascriptErrors((JavascriptExecutor) webdriver);
+      trackPageActivity((JavascriptExecutor) webdriver);
       SelenideLogger.commitStep(log, PASS);
     } catch (WebDriverException e) {
       SelenideLogger.commitStep(log, e);
@@ -85,6 +95,36 @@ public class Navigator {
     }
   }
 
+  public void waitForNetworkIdle(long quietPeriodMs, long timeoutMs) {
+    SelenideProxyServer proxyServer = getSelenideProxy();
+    if (proxyServer == null) {
+      throw new IllegalStateException("Cannot wait for network idle: Selenide proxy server is not started");
+    }
+    NetworkActivity network = proxyServer.networkActivity();
+    if (!network.waitForIdle(quietPeriodMs, timeoutMs)) {
+      throw new TimeoutException("Network has not been idle for " + quietPeriodMs + " ms. in " + timeoutMs + " ms., " +
+          network.getRequestsInFlight() + " requests in flight");
+    }
+  }
+
+  /**
+   * Long polling or streaming requests never finish, so open() does not fail if network does not become idle
+   */
+  protected void waitForNetworkIdleAfterOpen() {
+    if (waitForNetworkIdleAfterOpen <= 0) return;
+    SelenideProxyServer proxyServer = getSelenideProxy();
+    if (proxyServer == null) return;
+
+    NetworkActivity network = proxyServer.networkActivity();
+    if (!network.waitForIdle(waitForNetworkIdleAfterOpen, timeout)) {
+      log.info("Network has not been idle after opening page, " + network.getRequestsInFlight() + " requests in flight");
+    }
+  }
+
+  /**
+   * The hook is small and is installed on every page, so it's sent inline:
+   * selenide.js is injected later, by the first call of its helpers.
+   */
   protected void collectJavascriptErrors(JavascriptExecutor webdriver) {
     if (!captureJavascriptErrors) return;
 
@@ -108,6 +148,19 @@ public class Navigator {
     }
   }
 
+  /**
+   * Start tracking page activity right after opening the page (see {@link IdlePageDetector})
+   */
+  protected void trackPageActivity(JavascriptExecutor webdriver) {
+    if (idlePageTimeout <= 0) return;
+
+    try {
+      SelenideJs.instance.call(webdriver, "trackActivity");
+    } catch (UnsupportedOperationException | WebDriverException cannotExecuteJs) {
+      log.fine(cannotExecuteJs.toString());
+    }
+  }
+
   protected String makeUniqueUrlToAvoidIECaching(String url, long unique) {
     if (url.contains("timestamp=")) {
       return url.replaceFirst("(.*)(timestamp=)(.*)([&#].*)", "$1$2" + unique + "$4")
@@ -131,9 +184,11 @@ public class Navigator {
 
   public void back() {
     getWebDriver().navigate().back();
+    CachedElement.invalidateAll();
   }
 
   public void forward() {
     getWebDriver().navigate().forward();
+    CachedElement.invalidateAll();
   }
 }
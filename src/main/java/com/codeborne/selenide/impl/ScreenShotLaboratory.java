@@ -2,6 +2,8 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.logevents.FlightRecording;
+import com.codeborne.selenide.logevents.SelenideFlightRecorder;
 
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.JavascriptExecutor;
@@ -35,6 +37,8 @@ import java.util.logging.Logger;
 import static com.codeborne.selenide.Configuration.reportsFolder;
 import static com.codeborne.selenide.Selenide.switchTo;
 import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
 import static java.io.File.separatorChar;
 import static java.util.logging.Level.SEVERE;
 import static org.openqa.selenium.OutputType.FILE;
@@ -74,17 +78,25 @@ public class ScreenShotLaboratory {
       return null;
     }
 
-    WebDriver webdriver = getWebDriver();
+    FlightRecording recording = SelenideFlightRecorder.beginScreenshot(fileName);
+    try {
+      WebDriver webdriver = getWebDriver();
 
-    if (Configuration.savePageSource) {
-      savePageSourceToFile(fileName, webdriver);
-    }
+      if (Configuration.savePageSource) {
+        savePageSourceToFile(fileName, webdriver);
+      }
 
-    File imageFile = savePageImageToFile(fileName, webdriver);
-    if (imageFile == null) {
-      return null;
+      File imageFile = savePageImageToFile(fileName, webdriver);
+      if (imageFile == null) {
+        recording.status(FAIL.name());
+        return null;
+      }
+      recording.status(PASS.name());
+      return addToHistory(imageFile).getAbsolutePath();
+    }
+    finally {
+      recording.commit();
     }
-    return addToHistory(imageFile).getAbsolutePath();
   }
 
   public File takeScreenshot(WebElement element) {
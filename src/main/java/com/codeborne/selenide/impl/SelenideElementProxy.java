@@ -4,8 +4,12 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.commands.Commands;
 import com.codeborne.selenide.ex.InvalidStateException;
 import com.codeborne.selenide.ex.UIAssertionError;
+import com.codeborne.selenide.logevents.FlightRecording;
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.SelenideFlightRecorder;
 import com.codeborne.selenide.logevents.SelenideLog;
 import com.codeborne.selenide.logevents.SelenideLogger;
+import com.codeborne.selenide.logevents.WaitStatistics;
 import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.WebDriverException;
 
@@ -23,6 +27,7 @@ import static com.codeborne.selenide.Configuration.pollingInterval;
 import static com.codeborne.selenide.Configuration.timeout;
 import static com.codeborne.selenide.Selenide.sleep;
 import static com.codeborne.selenide.logevents.ErrorsCollector.validateAssertionMode;
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
 import static java.lang.System.currentTimeMillis;
 import static java.util.Arrays.asList;
@@ -51,6 +56,10 @@ class SelenideElementProxy implements InvocationHandler {
     this.webElementSource = webElementSource;
   }
 
+  WebElementSource getWebElementSource() {
+    return webElementSource;
+  }
+
   @Override
   public Object invoke(Object proxy, Method method, Object... args) throws Throwable {
     if (methodsToSkipLogging.contains(method.getName()))
@@ -58,11 +67,19 @@ class SelenideElementProxy implements InvocationHandler {
 
     validateAssertionMode();
 
+    CommandsBatch batch = CommandsBatch.current();
+    if (batch != null) {
+      if (batch.enqueue(proxy, webElementSource, method, args)) {
+        return method.getReturnType().isInstance(proxy) ? proxy : null;
+      }
+      batch.flush();
+    }
+
     long timeoutMs = getTimeoutMs(method, args);
     long pollingIntervalMs = getPollingIntervalMs(method, args);
     SelenideLog log = SelenideLogger.beginStep(webElementSource.getSearchCriteria(), method.getName(), args);
     try {
-      Object result = dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, method, args);
+      Object result = dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, method, args, log.getWaitStatistics());
       SelenideLogger.commitStep(log, PASS);
       return result;
     }
@@ -80,44 +97,70 @@ class SelenideElementProxy implements InvocationHandler {
   }
 
   protected Object dispatchAndRetry(long timeoutMs, long pollingIntervalMs,
-                                    Object proxy, Method method, Object[] args) throws Throwable, Error {
+                                    Object proxy, Method method, Object[] args,
+                                    WaitStatistics statistics) throws Throwable, Error {
+    FlightRecording recording = SelenideFlightRecorder.beginWait(webElementSource::getSearchCriteria, method.getName());
+    WaitStatistics previousStatistics = statistics.bind();
     final long startTime = currentTimeMillis();
+    LogEvent.EventStatus status = FAIL;
     Throwable lastError;
-    do {
-      try {
-        if (SelenideElement.class.isAssignableFrom(method.getDeclaringClass())) {
-          return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+    long idleTime = 0;
+    try {
+      do {
+        statistics.attemptStarted();
+        try {
+          Object result = SelenideElement.class.isAssignableFrom(method.getDeclaringClass()) ?
+              Commands.getInstance().execute(proxy, webElementSource, method.getName(), args) :
+              method.invoke(webElementSource.getWebElement(), args);
+          statistics.attemptFinished();
+          statistics.succeeded();
+          status = PASS;
+          return result;
         }
+        catch (InvocationTargetException e) {
+          lastError = e.getTargetException();
+        }
+        catch (Throwable e) {
+          lastError = e;
+        }
+        statistics.attemptFinished();
+        CachedElement.invalidateIfStale(lastError);
 
-        return method.invoke(webElementSource.getWebElement(), args);
-      }
-      catch (InvocationTargetException e) {
-        lastError = e.getTargetException();
-      }
-      catch (Throwable e) {
-        lastError = e;
-      }
-
-      if (Cleanup.of.isInvalidSelectorError(lastError)) {
-        throw Cleanup.of.wrap(lastError);
-      }
-      else if (!shouldRetryAfterError(lastError)) {
-        throw lastError;
+        if (Cleanup.of.isInvalidSelectorError(lastError)) {
+          throw Cleanup.of.wrap(lastError);
+        }
+        else if (!shouldRetryAfterError(lastError)) {
+          throw lastError;
+        }
+        idleTime = IdlePageDetector.instance.idleTime(startTime);
+        if (idleTime > 0) {
+          break;
+        }
+        sleep(pollingIntervalMs);
+        statistics.slept(pollingIntervalMs);
       }
-      sleep(pollingIntervalMs);
+      while (currentTimeMillis() - startTime <= timeoutMs);
+    }
+    finally {
+      WaitStatistics.restore(previousStatistics);
+      recording.status(status.name()).polling(statistics).commit();
     }
-    while (currentTimeMillis() - startTime <= timeoutMs);
 
-    if (lastError instanceof UIAssertionError) {
-      throw lastError;
+    Throwable error = toError(lastError);
+    if (idleTime > 0 && error instanceof UIAssertionError) {
+      ((UIAssertionError) error).pageIdleMs = idleTime;
     }
-    else if (lastError instanceof InvalidElementStateException) {
-      throw new InvalidStateException(lastError);
+    throw error;
+  }
+
+  private Throwable toError(Throwable lastError) {
+    if (lastError instanceof InvalidElementStateException) {
+      return new InvalidStateException(lastError);
     }
     else if (lastError instanceof WebDriverException) {
-      throw webElementSource.createElementNotFoundError(exist, lastError);
+      return webElementSource.createElementNotFoundError(exist, lastError);
     }
-    throw lastError;
+    return lastError;
   }
 
   static boolean shouldRetryAfterError(Throwable e) {
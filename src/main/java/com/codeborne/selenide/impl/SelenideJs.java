@@ -0,0 +1,83 @@
+package com.codeborne.selenide.impl;
+
+import org.apache.commons.io.IOUtils;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+
+/**
+ * Calls helper functions of "selenide.js" ({@code window.__selenide}) in browser.
+ *
+ * Helpers are injected once per document: usually only a short call like {@code __selenide.fire(element, ['change'])}
+ * is sent to browser. If the helpers are not loaded yet (e.g. after opening another page),
+ * they are injected and the function is called in the same request.
+ * The global variable {@code __selenide} serves as a marker of a document where the helpers have been injected.
+ *
+ * @since Selenide 4.11.3
+ */
+public class SelenideJs {
+  public static SelenideJs instance = new SelenideJs();
+
+  static final String NOT_LOADED = "__selenide is not loaded";
+
+  static final String jsCodeToCallHelper = ifLoaded("return __selenide[arguments[0]].apply(__selenide, arguments[1]);");
+
+  protected String helpersSource;
+
+  /**
+   * Call helper function in the current browser
+   *
+   * @param function name of the function, e.g. "fire"
+   * @return value returned by the function
+   */
+  public <T> T call(String function, Object... arguments) {
+    return call((JavascriptExecutor) getWebDriver(), function, arguments);
+  }
+
+  public <T> T call(JavascriptExecutor webdriver, String function, Object... arguments) {
+    return executeScript(webdriver, jsCodeToCallHelper, function, asList(arguments));
+  }
+
+  /**
+   * Execute JavaScript code which uses helper functions (e.g. {@code return __selenide.isVisible(arguments[0]);})
+   * in the current browser, injecting the helpers if needed
+   *
+   * @return value returned by the code
+   */
+  public <T> T execute(String jsCode, Object... arguments) {
+    return execute((JavascriptExecutor) getWebDriver(), jsCode, arguments);
+  }
+
+  public <T> T execute(JavascriptExecutor webdriver, String jsCode, Object... arguments) {
+    return executeScript(webdriver, ifLoaded(jsCode), arguments);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T executeScript(JavascriptExecutor webdriver, String jsCode, Object... arguments) {
+    Object result = webdriver.executeScript(jsCode, arguments);
+    if (NOT_LOADED.equals(result)) {
+      result = webdriver.executeScript(getHelpersSource() + ";\n" + jsCode, arguments);
+    }
+    return (T) result;
+  }
+
+  private static String ifLoaded(String jsCode) {
+    return "if (typeof __selenide == 'undefined') return '" + NOT_LOADED + "';\n" + jsCode;
+  }
+
+  protected synchronized String getHelpersSource() {
+    if (helpersSource == null) {
+      try {
+        helpersSource = IOUtils.toString(currentThread().getContextClassLoader().getResource("selenide.js"), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+        throw new RuntimeException("Cannot load selenide.js from classpath", e);
+      }
+    }
+    return helpersSource;
+  }
+}
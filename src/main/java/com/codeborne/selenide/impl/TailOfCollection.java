@@ -24,11 +24,24 @@ public class TailOfCollection implements WebElementsCollection {
 
   @Override
   public List<WebElement> getActualElements() {
+    List<WebElement> foundInBrowser = CollectionQuery.instance.find(this);
+    if (foundInBrowser != null) {
+      this.actualElements = foundInBrowser;
+      return this.actualElements;
+    }
     List<WebElement> source = originalCollection.getActualElements();
     this.actualElements = source.subList(source.size() - Math.min(source.size(), size), source.size());
     return this.actualElements;
   }
 
+  WebElementsCollection getOriginalCollection() {
+    return originalCollection;
+  }
+
+  int getSize() {
+    return size;
+  }
+
   @Override
   public String description() {
     return originalCollection.description() + ".last(" + size + ')';
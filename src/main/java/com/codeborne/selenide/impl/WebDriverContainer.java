@@ -15,6 +15,29 @@ public interface WebDriverContainer {
   void closeWebDriver();
   boolean hasWebDriverStarted();
 
+  /**
+   * Unbind webdriver and proxy server from the current thread without closing them
+   * @since Selenide 4.11.3
+   */
+  void detachWebDriver();
+
+  /**
+   * Bind webdriver (detached by {@link #detachWebDriver()}) and its proxy server to the current thread
+   * @since Selenide 4.11.3
+   */
+  void attachWebDriver(WebDriver webDriver, SelenideProxyServer proxyServer);
+
+  /**
+   * Close webdriver and proxy server which are not bound to any thread
+   * @since Selenide 4.11.3
+   */
+  default void closeWebDriver(WebDriver webDriver, SelenideProxyServer proxyServer) {
+    webDriver.quit();
+    if (proxyServer != null) {
+      proxyServer.shutdown();
+    }
+  }
+
   void clearBrowserCache();
   String getPageSource();
   String getCurrentUrl();
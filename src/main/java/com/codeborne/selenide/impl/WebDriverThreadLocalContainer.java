@@ -1,6 +1,8 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.logevents.FlightRecording;
+import com.codeborne.selenide.logevents.SelenideFlightRecorder;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import com.codeborne.selenide.webdriver.WebDriverFactory;
 import org.openqa.selenium.JavascriptExecutor;
@@ -27,6 +29,7 @@ import static com.codeborne.selenide.Configuration.closeBrowserTimeoutMs;
 import static com.codeborne.selenide.Configuration.holdBrowserOpen;
 import static com.codeborne.selenide.Configuration.reopenBrowserOnFail;
 import static com.codeborne.selenide.impl.Describe.describe;
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
 import static java.lang.Thread.currentThread;
 import static java.util.logging.Level.FINE;
 
@@ -34,6 +37,7 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   private static final Logger log = Logger.getLogger(WebDriverThreadLocalContainer.class.getName());
 
   protected WebDriverFactory factory = new WebDriverFactory();
+  protected BrowserSlots browserSlots = BrowserSlots.instance;
 
   protected List<WebDriverEventListener> listeners = new ArrayList<>();
   protected Collection<Thread> ALL_WEB_DRIVERS_THREADS = new ConcurrentLinkedQueue<>();
@@ -132,11 +136,34 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
     ALL_WEB_DRIVERS_THREADS.remove(thread);
     WebDriver webdriver = THREAD_WEB_DRIVER.remove(thread.getId());
     SelenideProxyServer proxy = THREAD_PROXY_SERVER.remove(thread.getId());
+    closeWebDriver(String.valueOf(thread.getId()), webdriver, proxy);
+  }
+
+  @Override
+  public void detachWebDriver() {
+    ALL_WEB_DRIVERS_THREADS.remove(currentThread());
+    THREAD_WEB_DRIVER.remove(currentThread().getId());
+    THREAD_PROXY_SERVER.remove(currentThread().getId());
+  }
+
+  @Override
+  public void attachWebDriver(WebDriver webDriver, SelenideProxyServer proxyServer) {
+    setWebDriver(webDriver);
+    if (proxyServer != null) {
+      THREAD_PROXY_SERVER.put(currentThread().getId(), proxyServer);
+    }
+  }
 
+  @Override
+  public void closeWebDriver(WebDriver webDriver, SelenideProxyServer proxyServer) {
+    closeWebDriver("detached", webDriver, proxyServer);
+  }
+
+  private void closeWebDriver(String owner, WebDriver webdriver, SelenideProxyServer proxy) {
     if (webdriver != null && !holdBrowserOpen) {
-      log.info("Close webdriver: " + thread.getId() + " -> " + webdriver);
+      log.info("Close webdriver: " + owner + " -> " + webdriver);
       if (proxy != null) {
-        log.info("Close proxy server: " + thread.getId() + " -> " + proxy);
+        log.info("Close proxy server: " + owner + " -> " + proxy);
       }
 
       long start = System.currentTimeMillis();
@@ -158,9 +185,10 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
       else {
         log.info("Closed webdriver in " + duration + " ms");
       }
+      browserSlots.release(webdriver);
     }
     else if (proxy != null && !holdBrowserOpen) {
-      log.info("Close proxy server: " + thread.getId() + " -> " + proxy);
+      log.info("Close proxy server: " + owner + " -> " + proxy);
       proxy.shutdown();
     }
   }
@@ -228,12 +256,27 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
       userProvidedProxy = selenideProxyServer.createSeleniumProxy();
     }
 
-    WebDriver webdriver = factory.createWebDriver(userProvidedProxy);
+    BrowserSlots.Slot slot = browserSlots.acquire();
+    WebDriver webdriver;
+    FlightRecording recording = SelenideFlightRecorder.beginDriverCreation(Configuration.browser);
+    try {
+      webdriver = factory.createWebDriver(userProvidedProxy);
+      recording.status(PASS.name());
+    }
+    catch (RuntimeException | Error e) {
+      browserSlots.release(slot);
+      throw e;
+    }
+    finally {
+      recording.commit();
+    }
 
     log.info("Create webdriver in current thread " + currentThread().getId() + ": " +
             describe(webdriver) + " -> " + webdriver);
 
-    return markForAutoClose(addListeners(webdriver));
+    WebDriver result = markForAutoClose(addListeners(webdriver));
+    browserSlots.assign(slot, result);
+    return result;
   }
 
   protected WebDriver addListeners(WebDriver webdriver) {
@@ -4,7 +4,6 @@ import org.apache.commons.io.IOUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.By.ByCssSelector;
 import org.openqa.selenium.SearchContext;
-import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.io.IOException;
@@ -15,6 +14,7 @@ import static com.codeborne.selenide.Configuration.SelectorMode.CSS;
 import static com.codeborne.selenide.Configuration.selectorMode;
 import static com.codeborne.selenide.Selenide.executeJavaScript;
 import static java.lang.Thread.currentThread;
+import static java.util.Collections.emptyList;
 
 /**
  * Thanks to http://selenium.polteq.com/en/injecting-the-sizzle-css-selector-library/
@@ -22,6 +22,10 @@ import static java.lang.Thread.currentThread;
 public class WebElementSelector {
   public static WebElementSelector instance = new WebElementSelector();
 
+  static final String jsCodeToFindBySizzle =
+      "if (typeof Sizzle == 'undefined') return false;\n" +
+          "return arguments[1] ? Sizzle(arguments[0], arguments[1]) : Sizzle(arguments[0]);";
+
   protected String sizzleSource;
 
   public WebElement findElement(SearchContext context, By selector) {
@@ -41,34 +45,26 @@ public class WebElementSelector {
     return evaluateSizzleSelector(context, (ByCssSelector) selector);
   }
 
+  /**
+   * Finds elements by Sizzle selector in a single call if Sizzle is already loaded to the current page.
+   * Otherwise Sizzle is injected and the query is executed by the second call.
+   * Sizzle itself (its global variable) serves as a marker of a page where Sizzle has been injected.
+   */
+  @SuppressWarnings("unchecked")
   protected List<WebElement> evaluateSizzleSelector(SearchContext context, ByCssSelector sizzleCssSelector) {
-    injectSizzleIfNeeded();
-
     String sizzleSelector = sizzleCssSelector.toString()
         .replace("By.selector: ", "")
         .replace("By.cssSelector: ", "");
+    Object root = context instanceof WebElement ? context : null;
 
-    if (context instanceof WebElement)
-      return executeJavaScript("return Sizzle(arguments[0], arguments[1])", sizzleSelector, context);
-    else
-      return executeJavaScript("return Sizzle(arguments[0])", sizzleSelector);
-  }
-
-  protected void injectSizzleIfNeeded() {
-    if (!sizzleLoaded()) {
-      injectSizzle();
-    }
-  }
-
-  protected Boolean sizzleLoaded() {
-    try {
-      return executeJavaScript("return typeof Sizzle != 'undefined'");
-    } catch (WebDriverException e) {
-      return false;
+    Object result = executeJavaScript(jsCodeToFindBySizzle, sizzleSelector, root);
+    if (Boolean.FALSE.equals(result)) {
+      result = executeJavaScript(getSizzleSource() + ";\n" + jsCodeToFindBySizzle, sizzleSelector, root);
     }
+    return result instanceof List ? (List<WebElement>) result : emptyList();
   }
 
-  protected synchronized void injectSizzle() {
+  protected synchronized String getSizzleSource() {
     if (sizzleSource == null) {
       try {
         sizzleSource = IOUtils.toString(currentThread().getContextClassLoader().getResource("sizzle.js"), StandardCharsets.UTF_8);
@@ -76,6 +72,6 @@ public class WebElementSelector {
         throw new RuntimeException("Cannot load sizzle.js from classpath", e);
       }
     }
-    executeJavaScript(sizzleSource);
+    return sizzleSource;
   }
 }
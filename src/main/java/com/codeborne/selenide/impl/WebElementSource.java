@@ -5,6 +5,7 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.ElementShould;
 import com.codeborne.selenide.ex.ElementShouldNot;
+import com.codeborne.selenide.logevents.WaitStatistics;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
@@ -36,36 +37,66 @@ public abstract class WebElementSource {
   }
 
   public WebElement checkCondition(String prefix, String message, Condition condition, boolean invert) {
-    Condition check = invert ? not(condition) : condition;
+    return checkConditions(prefix, message, singletonList(condition), invert);
+  }
 
+  /**
+   * Checks all given conditions against the same element: it's found only once,
+   * and its properties are read at most once (see {@link ElementSnapshot}).
+   * Error (ElementNotFound, ElementShould or ElementShouldNot) is thrown for the first condition that is not satisfied.
+   *
+   * @return the element, or null if it's not found but all conditions are satisfied by a missing element
+   * @since Selenide 4.11.3
+   */
+  public WebElement checkConditions(String prefix, String message, List<Condition> conditions, boolean invert) {
     Throwable lastError = null;
     WebElement element = null;
     try {
       element = getWebElement();
-      if (element != null && check.apply(element)) {
-        return element;
-      }
     }
     catch (Throwable e) {
       lastError = e;
     }
+    WebElement snapshot = element == null ? null : ElementSnapshot.of(element);
 
-    if (Cleanup.of.isInvalidSelectorError(lastError)) {
-      throw Cleanup.of.wrap(lastError);
-    }
+    for (Condition condition : conditions) {
+      Condition check = invert ? not(condition) : condition;
+      try {
+        if (snapshot != null && matches(check, snapshot)) {
+          continue;
+        }
+      }
+      catch (Throwable e) {
+        lastError = e;
+      }
+
+      if (Cleanup.of.isInvalidSelectorError(lastError)) {
+        throw Cleanup.of.wrap(lastError);
+      }
 
-    if (element == null) {
-      if (!check.applyNull()) {
-        throw createElementNotFoundError(check, lastError);
+      if (element == null) {
+        if (!check.applyNull()) {
+          throw createElementNotFoundError(check, lastError);
+        }
+      }
+      else if (invert) {
+        throw new ElementShouldNot(getSearchCriteria(), prefix, message, condition, snapshot, lastError);
+      }
+      else {
+        throw new ElementShould(getSearchCriteria(), prefix, message, condition, snapshot, lastError);
       }
     }
-    else if (invert) {
-      throw new ElementShouldNot(getSearchCriteria(), prefix, message, condition, element, lastError);
+    return element;
+  }
+
+  private boolean matches(Condition condition, WebElement element) {
+    long startNs = System.nanoTime();
+    try {
+      return condition.apply(element);
     }
-    else {
-      throw new ElementShould(getSearchCriteria(), prefix, message, condition, element, lastError);
+    finally {
+      WaitStatistics.conditionEvaluated(startNs);
     }
-    return null;
   }
 
   public WebElement findAndAssertElementIsVisible() {
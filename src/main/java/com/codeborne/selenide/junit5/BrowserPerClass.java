@@ -0,0 +1,80 @@
+package com.codeborne.selenide.junit5;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import static com.codeborne.selenide.WebDriverRunner.hasWebDriverStarted;
+
+/**
+ * Reuses browsers by tests of the same class, and closes them after all tests of the class.
+ *
+ * Usage:
+ * <pre>  {@literal @}ExtendWith(BrowserPerClass.class)
+ * class LoginTest {...}</pre>
+ *
+ * Browsers are not bound to threads between tests: after a test, its browser is returned to the pool of the class,
+ * and the next test of the class takes it from the pool, no matter what thread it runs in.
+ * When tests of the class run in parallel, every test running at the same time gets its own browser.
+ * Browser opened in {@code @BeforeAll} method is used by the first test and then returned to the pool as well.
+ *
+ * @since Selenide 4.11.3
+ */
+public class BrowserPerClass implements BeforeEachCallback, AfterEachCallback, AfterAllCallback {
+  private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(BrowserPerClass.class);
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    if (hasWebDriverStarted()) {
+      return;
+    }
+    BrowserSession browser = pool(context).pollFirst();
+    if (browser != null) {
+      browser.attach();
+    }
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    BrowserSession browser = BrowserSession.detach();
+    if (browser != null) {
+      pool(context).addFirst(browser);
+    }
+  }
+
+  /**
+   * Closes webdriver opened in {@code @AfterAll} methods (or in {@code @BeforeAll} if there were no tests).
+   * Browsers used by tests are closed together with the class context.
+   */
+  @Override
+  public void afterAll(ExtensionContext context) {
+    BrowserSession browser = BrowserSession.detach();
+    if (browser != null) {
+      browser.close();
+    }
+  }
+
+  private Deque<BrowserSession> pool(ExtensionContext testContext) {
+    ExtensionContext classContext = testContext.getParent().orElse(testContext);
+    return classContext.getStore(NAMESPACE).getOrComputeIfAbsent(BrowserPool.class, key -> new BrowserPool(), BrowserPool.class);
+  }
+
+  /**
+   * Browsers not used by any test at the moment. They are closed when the class context is closed.
+   */
+  private static class BrowserPool extends ConcurrentLinkedDeque<BrowserSession>
+      implements ExtensionContext.Store.CloseableResource {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public void close() {
+      for (BrowserSession browser = pollFirst(); browser != null; browser = pollFirst()) {
+        browser.close();
+      }
+    }
+  }
+}
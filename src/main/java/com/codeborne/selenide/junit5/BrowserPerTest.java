@@ -0,0 +1,25 @@
+package com.codeborne.selenide.junit5;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Closes the browser after every test.
+ *
+ * Usage:
+ * <pre>  {@literal @}ExtendWith(BrowserPerTest.class)
+ * class LoginTest {...}</pre>
+ *
+ * Can be used with parallel execution: every test running at the same time opens its own browser.
+ *
+ * @since Selenide 4.11.3
+ */
+public class BrowserPerTest implements AfterEachCallback {
+  @Override
+  public void afterEach(ExtensionContext context) {
+    BrowserSession browser = BrowserSession.detach();
+    if (browser != null) {
+      browser.close();
+    }
+  }
+}
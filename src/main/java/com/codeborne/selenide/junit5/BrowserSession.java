@@ -0,0 +1,43 @@
+package com.codeborne.selenide.junit5;
+
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.WebDriver;
+
+import static com.codeborne.selenide.WebDriverRunner.webdriverContainer;
+
+/**
+ * Webdriver (with its proxy server) which is not bound to any thread between tests
+ */
+class BrowserSession implements ExtensionContext.Store.CloseableResource {
+  private final WebDriver webDriver;
+  private final SelenideProxyServer proxyServer;
+
+  private BrowserSession(WebDriver webDriver, SelenideProxyServer proxyServer) {
+    this.webDriver = webDriver;
+    this.proxyServer = proxyServer;
+  }
+
+  /**
+   * Unbind webdriver of the current thread (if any)
+   *
+   * @return detached webdriver or null if webdriver has not been started in the current thread
+   */
+  static BrowserSession detach() {
+    if (!webdriverContainer.hasWebDriverStarted()) {
+      return null;
+    }
+    BrowserSession session = new BrowserSession(webdriverContainer.getWebDriver(), webdriverContainer.getProxyServer());
+    webdriverContainer.detachWebDriver();
+    return session;
+  }
+
+  void attach() {
+    webdriverContainer.attachWebDriver(webDriver, proxyServer);
+  }
+
+  @Override
+  public void close() {
+    webdriverContainer.closeWebDriver(webDriver, proxyServer);
+  }
+}
@@ -0,0 +1,94 @@
+package com.codeborne.selenide.junit5;
+
+import com.codeborne.selenide.Screenshots;
+import com.codeborne.selenide.ex.UIAssertionError;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.WebDriverRunner.hasWebDriverStarted;
+import static java.util.Collections.emptyList;
+
+/**
+ * Takes screenshot if test fails (failed Selenide checks take screenshots themselves).
+ *
+ * Usage:
+ * <pre>  {@literal @}ExtendWith(ScreenShooterExtension.class)
+ * class LoginTest {...}</pre>
+ * or
+ * <pre>  {@literal @}RegisterExtension
+ * static ScreenShooterExtension screenshots = new ScreenShooterExtension().succeededTests();</pre>
+ *
+ * The screenshot is taken right after the test method (before {@code @AfterEach} methods and browser strategy extensions),
+ * and is named after the test class and method taken from the test context, not from the current thread.
+ * Screenshots taken during the test are kept in its {@link ExtensionContext.Store} (see {@link #screenshots(ExtensionContext)}).
+ *
+ * @since Selenide 4.11.3
+ */
+public class ScreenShooterExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+  private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ScreenShooterExtension.class);
+
+  private final Logger log = Logger.getLogger(getClass().getName());
+
+  private boolean captureSuccessfulTests;
+
+  /**
+   * Take screenshots of succeeded tests too
+   *
+   * @return this extension
+   */
+  public ScreenShooterExtension succeededTests() {
+    captureSuccessfulTests = true;
+    return this;
+  }
+
+  /**
+   * Screenshots taken during the test: by failed checks and by this extension.
+   * Can be used e.g. to attach screenshots to a report in {@code @AfterEach} method.
+   *
+   * @param context context of the test
+   * @return screenshots of the test, or empty list if the test method has not been executed yet
+   */
+  @SuppressWarnings("unchecked")
+  public static List<File> screenshots(ExtensionContext context) {
+    List<File> screenshots = context.getStore(NAMESPACE).get(Screenshots.class, List.class);
+    return screenshots == null ? emptyList() : screenshots;
+  }
+
+  /**
+   * Screenshots are grouped by test in the thread executing the test method
+   */
+  @Override
+  public void beforeTestExecution(ExtensionContext context) {
+    Screenshots.startContext(className(context), methodName(context));
+  }
+
+  @Override
+  public void afterTestExecution(ExtensionContext context) {
+    try {
+      Optional<Throwable> error = context.getExecutionException();
+      boolean shouldTakeScreenshot = error.isPresent() ? !(error.get() instanceof UIAssertionError) : captureSuccessfulTests;
+      if (shouldTakeScreenshot && hasWebDriverStarted()) {
+        log.info("Screenshot: " + Screenshots.takeScreenShot(className(context), methodName(context)));
+      }
+    }
+    finally {
+      List<File> screenshots = Screenshots.finishContext();
+      context.getStore(NAMESPACE).put(Screenshots.class, screenshots == null ? emptyList() : screenshots);
+    }
+  }
+
+  private String className(ExtensionContext context) {
+    return context.getRequiredTestClass().getName();
+  }
+
+  private String methodName(ExtensionContext context) {
+    return context.getTestMethod().map(Method::getName).orElse(context.getDisplayName());
+  }
+}
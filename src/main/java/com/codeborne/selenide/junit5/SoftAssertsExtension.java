@@ -0,0 +1,111 @@
+package com.codeborne.selenide.junit5;
+
+import com.codeborne.selenide.logevents.ErrorsCollector;
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.codeborne.selenide.logevents.ErrorsCollector.LISTENER_SOFT_ASSERT;
+
+/**
+ * Usage:
+ * <pre>  {@literal @}ExtendWith(SoftAssertsExtension.class)
+ * class LoginTest {...}</pre>
+ * together with {@code Configuration.assertionMode = SOFT}.
+ *
+ * Errors are collected per test (not per thread), and the test fails after all its checks.
+ * The errors collector of a test is kept in its {@link ExtensionContext.Store}. Failed checks are received
+ * by a single global listener, which passes them to the test whose method is being executed by the thread making the check.
+ * So the callbacks of a test may be called by different threads.
+ * The global listener is registered only while some test using this extension is running.
+ *
+ * @since Selenide 4.11.3
+ */
+public class SoftAssertsExtension implements BeforeEachCallback, BeforeTestExecutionCallback,
+    AfterTestExecutionCallback, AfterEachCallback {
+  private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SoftAssertsExtension.class);
+
+  static final RunningTests runningTests = new RunningTests();
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    runningTests.register();
+    context.getStore(NAMESPACE).put(ErrorsCollector.class, new ErrorsCollector());
+  }
+
+  @Override
+  public void beforeTestExecution(ExtensionContext context) {
+    runningTests.start(errorsCollector(context));
+  }
+
+  @Override
+  public void afterTestExecution(ExtensionContext context) {
+    runningTests.finish(errorsCollector(context));
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    ErrorsCollector errorsCollector = context.getStore(NAMESPACE).remove(ErrorsCollector.class, ErrorsCollector.class);
+    if (errorsCollector != null) {
+      runningTests.finish(errorsCollector);
+      runningTests.unregister();
+      errorsCollector.failIfErrors(context.getDisplayName());
+    }
+  }
+
+  private ErrorsCollector errorsCollector(ExtensionContext context) {
+    return context.getStore(NAMESPACE).get(ErrorsCollector.class, ErrorsCollector.class);
+  }
+
+  /**
+   * Errors collectors of tests whose methods are being executed at the moment
+   */
+  static class RunningTests implements LogEventListener {
+    private final Map<Thread, ErrorsCollector> collectors = new ConcurrentHashMap<>();
+    private int registeredTests;
+
+    /**
+     * Add the global listener for the first running test
+     */
+    synchronized void register() {
+      if (registeredTests++ == 0) {
+        SelenideLogger.addGlobalListener(LISTENER_SOFT_ASSERT, this);
+      }
+    }
+
+    /**
+     * Remove the global listener after the last running test
+     */
+    synchronized void unregister() {
+      if (--registeredTests == 0) {
+        SelenideLogger.removeGlobalListener(LISTENER_SOFT_ASSERT);
+      }
+    }
+
+    void start(ErrorsCollector errorsCollector) {
+      if (errorsCollector != null) {
+        collectors.put(Thread.currentThread(), errorsCollector);
+      }
+    }
+
+    void finish(ErrorsCollector errorsCollector) {
+      collectors.values().remove(errorsCollector);
+    }
+
+    @Override
+    public void onEvent(LogEvent event) {
+      ErrorsCollector errorsCollector = collectors.get(Thread.currentThread());
+      if (errorsCollector != null) {
+        errorsCollector.onEvent(event);
+      }
+    }
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * Selenide integration with JUnit 5 (Jupiter).
+ *
+ * All extensions keep their state in {@link org.junit.jupiter.api.extension.ExtensionContext.Store},
+ * so they can be used with parallel execution.
+ */
+package com.codeborne.selenide.junit5;
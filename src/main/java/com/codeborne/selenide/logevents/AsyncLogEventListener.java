@@ -0,0 +1,281 @@
+package com.codeborne.selenide.logevents;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
+
+/**
+ * Delivers events to a slow listener (like a remote reporting service) on a separate thread,
+ * so that the listener does not slow down test execution.
+ *
+ * Events are delivered in the same order as they happened. If listener cannot keep up with the test,
+ * events are buffered in a bounded queue, and the {@link OverflowPolicy} decides what to do when it's full.
+ *
+ * Usage:
+ * <pre>
+ *   SelenideLogger.addListener("allure", new AsyncLogEventListener(new AllureSelenide()));
+ * </pre>
+ *
+ * The queue is flushed when the listener is removed by {@link SelenideLogger#removeListener(String)},
+ * {@link SelenideLogger#removeAllListeners()} or {@link SelenideLogger#removeGlobalListener(String)}.
+ * The same instance can be added for several threads: the thread is stopped only when it has been removed by all of them.
+ * Other (synchronous) listeners are still notified on the test thread, in the same order as before.
+ *
+ * @since Selenide 4.11.3
+ */
+public class AsyncLogEventListener implements LogEventListener {
+  public enum OverflowPolicy {
+    /**
+     * Test thread waits until listener processes some events
+     */
+    BLOCK,
+
+    /**
+     * New events are dropped while the queue is full
+     */
+    DROP,
+
+    /**
+     * When the queue is more than half full, only every N-th passed step is delivered.
+     * Failed steps are always delivered.
+     */
+    SAMPLE
+  }
+
+  private static final Logger log = Logger.getLogger(AsyncLogEventListener.class.getName());
+  private static final long FLUSH_TIMEOUT_MS = 30000;
+
+  /**
+   * The last event in the queue: the delivery thread stops after it
+   */
+  private static final LogEvent END_OF_EVENTS = new SelenideLog("", "end of events");
+
+  private final LogEventListener delegate;
+  private final BlockingQueue<LogEvent> queue;
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+  private final int sampleRate;
+  private final Thread worker;
+
+  private final AtomicLong accepted = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong overflown = new AtomicLong();
+  private final Object deliveryLock = new Object();
+  private final ReadWriteLock closing = new ReentrantReadWriteLock();
+  private final AtomicInteger registrations = new AtomicInteger();
+  private long delivered;
+  private volatile boolean closed;
+
+  public AsyncLogEventListener(LogEventListener delegate) {
+    this(delegate, 1024, OverflowPolicy.BLOCK);
+  }
+
+  public AsyncLogEventListener(LogEventListener delegate, int capacity, OverflowPolicy overflowPolicy) {
+    this(delegate, capacity, overflowPolicy, 10);
+  }
+
+  /**
+   * @param capacity max number of events waiting for delivery
+   * @param sampleRate with {@link OverflowPolicy#SAMPLE}, only one of {@code sampleRate} passed steps
+   *                   is delivered while the queue is more than half full
+   */
+  public AsyncLogEventListener(LogEventListener delegate, int capacity, OverflowPolicy overflowPolicy, int sampleRate) {
+    this.delegate = delegate;
+    this.capacity = capacity;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.overflowPolicy = overflowPolicy;
+    this.sampleRate = sampleRate;
+    this.worker = new Thread(this::deliverEvents, "selenide-log-listener-" + delegate.getClass().getSimpleName());
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  @Override
+  public void onEvent(LogEvent event) {
+    closing.readLock().lock();
+    try {
+      if (!closed) {
+        enqueue(event);
+        return;
+      }
+    }
+    finally {
+      closing.readLock().unlock();
+    }
+
+    awaitDeliveryThread();
+    delegate.onEvent(event);
+  }
+
+  private void enqueue(LogEvent event) {
+    boolean enqueued;
+    switch (overflowPolicy) {
+      case DROP:
+        enqueued = queue.offer(event);
+        break;
+      case SAMPLE:
+        enqueued = !shouldSkipSample(event) && put(event);
+        break;
+      default:
+        enqueued = put(event);
+    }
+
+    if (enqueued) {
+      accepted.incrementAndGet();
+    }
+    else {
+      dropped.incrementAndGet();
+    }
+  }
+
+  private boolean shouldSkipSample(LogEvent event) {
+    return event.getStatus() != FAIL && queue.size() >= capacity / 2 &&
+        overflown.incrementAndGet() % sampleRate != 0;
+  }
+
+  private boolean put(LogEvent event) {
+    try {
+      queue.put(event);
+      return true;
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void deliverEvents() {
+    while (true) {
+      LogEvent event;
+      try {
+        event = queue.take();
+      }
+      catch (InterruptedException e) {
+        continue;
+      }
+      if (event == END_OF_EVENTS) return;
+
+      try {
+        delegate.onEvent(event);
+      }
+      catch (Throwable e) {
+        // keep draining even after an Error: otherwise test threads would block on the full queue forever
+        log.log(Level.WARNING, "Listener " + delegate + " failed to process event " + event, e);
+      }
+      synchronized (deliveryLock) {
+        delivered++;
+        deliveryLock.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Wait until all accepted events are delivered to the listener
+   *
+   * @return false if events have not been delivered in 30 seconds
+   */
+  public boolean flush() {
+    long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MS;
+    synchronized (deliveryLock) {
+      while (delivered < accepted.get()) {
+        long remainingMs = deadline - System.currentTimeMillis();
+        if (remainingMs <= 0) {
+          log.warning("Listener " + delegate + " has not processed " + (accepted.get() - delivered) + " events");
+          return false;
+        }
+        try {
+          deliveryLock.wait(remainingMs);
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Deliver all accepted events and stop the delivery thread.
+   * Events received after closing are delivered synchronously.
+   */
+  public void close() {
+    closing.writeLock().lock();
+    try {
+      if (closed) return;
+      closed = true;
+      putUninterruptibly(END_OF_EVENTS);
+    }
+    finally {
+      closing.writeLock().unlock();
+    }
+    awaitDeliveryThread();
+  }
+
+  private void putUninterruptibly(LogEvent event) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        queue.put(event);
+        break;
+      }
+      catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void awaitDeliveryThread() {
+    if (worker == Thread.currentThread()) return;
+    try {
+      worker.join(FLUSH_TIMEOUT_MS);
+      if (worker.isAlive()) {
+        log.warning("Listener " + delegate + " has not processed events in " + FLUSH_TIMEOUT_MS + " ms");
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Called when the listener is added to {@link SelenideLogger} (for a thread or globally)
+   */
+  void registered() {
+    registrations.incrementAndGet();
+  }
+
+  /**
+   * Called when the listener is removed from {@link SelenideLogger}.
+   * Flushes accepted events, and closes the listener if it's not used by any other thread.
+   */
+  void unregistered() {
+    if (registrations.decrementAndGet() <= 0) {
+      close();
+    }
+    else {
+      flush();
+    }
+  }
+
+  public LogEventListener getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * @return number of events that have not been delivered because of {@link OverflowPolicy}
+   */
+  public long getDroppedEvents() {
+    return dropped.get();
+  }
+}
@@ -45,7 +45,7 @@ public class ErrorsCollector implements LogEventListener {
 
   public static void validateAssertionMode() {
     if (assertionMode == SOFT) {
-      if (!SelenideLogger.hasListener(LISTENER_SOFT_ASSERT)) {
+      if (!SelenideLogger.hasListener(LISTENER_SOFT_ASSERT) && !SelenideLogger.hasGlobalListener(LISTENER_SOFT_ASSERT)) {
         throw new IllegalStateException("Using soft asserts, but without @SoftAsserts annotation");
       }
     }
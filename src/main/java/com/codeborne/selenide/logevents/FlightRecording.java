@@ -0,0 +1,34 @@
+package com.codeborne.selenide.logevents;
+
+/**
+ * A single Selenide activity (step, wait loop, screenshot etc.) being recorded by Java Flight Recorder.
+ *
+ * Created by {@link SelenideFlightRecorder} at the beginning of activity, committed at the end of activity.
+ * If flight recording is not enabled, a no-op instance is returned.
+ * If activity failed with an exception, its status remains empty.
+ *
+ * @see SelenideFlightRecorder
+ */
+public interface FlightRecording {
+  FlightRecording NONE = new FlightRecording() {
+    @Override
+    public FlightRecording status(String status) {
+      return this;
+    }
+
+    @Override
+    public FlightRecording polling(WaitStatistics statistics) {
+      return this;
+    }
+
+    @Override
+    public void commit() {
+    }
+  };
+
+  FlightRecording status(String status);
+
+  FlightRecording polling(WaitStatistics statistics);
+
+  void commit();
+}
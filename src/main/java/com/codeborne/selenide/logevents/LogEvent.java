@@ -17,4 +17,13 @@ public interface LogEvent {
   EventStatus getStatus();
   long getDuration();
   Throwable getError();
+
+  /**
+   * @return how the time of this step was spent in its polling loop (never null).
+   * Events that don't track it return empty statistics.
+   * @since Selenide 4.11.3
+   */
+  default WaitStatistics getWaitStatistics() {
+    return new WaitStatistics();
+  }
 }
@@ -0,0 +1,208 @@
+package com.codeborne.selenide.logevents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
+
+/**
+ * Summary of the whole test run: duration of every test, the slowest steps,
+ * and percentiles of step duration per command (like "click", "set value", "should have").
+ *
+ * Tests can run in parallel threads. Steps of each test are collected into a buffer owned by the test's thread
+ * (no locks or shared state while the test is running), and finished buffers are merged only when the report is generated.
+ *
+ * Class is thread-safe: the same instance of RunSummary can be reused by different threads simultaneously.
+ *
+ * @since Selenide 4.11.3
+ */
+public class RunSummary {
+  private static final String LISTENER_NAME = "runSummary";
+
+  private final int slowestStepsCount;
+  private final Queue<TestBuffer> finishedTests = new ConcurrentLinkedQueue<>();
+
+  public RunSummary() {
+    this(10);
+  }
+
+  /**
+   * @param slowestStepsCount how many slowest steps to show in the report
+   */
+  public RunSummary(int slowestStepsCount) {
+    this.slowestStepsCount = slowestStepsCount;
+  }
+
+  /**
+   * Start collecting steps of the current thread
+   */
+  public void testStarted(String title) {
+    SelenideLogger.addListener(LISTENER_NAME, new TestBuffer(title, slowestStepsCount));
+  }
+
+  /**
+   * Stop collecting steps of the current thread and add them to the summary
+   */
+  public void testFinished() {
+    TestBuffer buffer = SelenideLogger.removeListener(LISTENER_NAME);
+    if (buffer != null) {
+      buffer.finish();
+      finishedTests.add(buffer);
+    }
+  }
+
+  /**
+   * @return true if some steps of finished tests have been recorded
+   */
+  public boolean hasSteps() {
+    for (TestBuffer test : finishedTests) {
+      if (test.steps > 0) return true;
+    }
+    return false;
+  }
+
+  public String generateReport() {
+    List<TestBuffer> tests = new ArrayList<>(finishedTests);
+    Map<String, Durations> durationsByCommand = new TreeMap<>();
+    List<Step> slowestSteps = new ArrayList<>();
+    int steps = 0;
+    int failedSteps = 0;
+
+    for (TestBuffer test : tests) {
+      steps += test.steps;
+      failedSteps += test.failedSteps;
+      slowestSteps.addAll(test.slowestSteps);
+      for (Map.Entry<String, Durations> command : test.durationsByCommand.entrySet()) {
+        durationsByCommand.computeIfAbsent(command.getKey(), name -> new Durations()).addAll(command.getValue());
+      }
+    }
+    tests.sort(Comparator.comparingLong((TestBuffer test) -> test.durationMs).reversed());
+    slowestSteps.sort(Comparator.comparingLong((Step step) -> step.durationMs).reversed());
+
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("Run summary: %d tests, %d steps, %d failed steps%n", tests.size(), steps, failedSteps));
+
+    sb.append(String.format("%nTests:%n"));
+    for (TestBuffer test : tests) {
+      sb.append(String.format("%10d ms. %6d steps  %s%n", test.durationMs, test.steps, test.title));
+    }
+
+    sb.append(String.format("%nSlowest steps:%n"));
+    for (Step step : slowestSteps.subList(0, Math.min(slowestStepsCount, slowestSteps.size()))) {
+      sb.append(String.format("%10d ms.  %s  %s %s%n", step.durationMs, step.test, step.element, step.subject));
+    }
+
+    sb.append(String.format("%nCommands:%n"));
+    sb.append(String.format("%-30s|%-10s|%-10s|%-10s|%-10s|%-10s%n", "Command", "count", "p50 ms.", "p90 ms.", "p99 ms.", "max ms."));
+    for (Map.Entry<String, Durations> command : durationsByCommand.entrySet()) {
+      Durations durations = command.getValue();
+      durations.sort();
+      sb.append(String.format("%-30s|%-10d|%-10d|%-10d|%-10d|%-10d%n", command.getKey(), durations.size,
+          durations.percentile(50), durations.percentile(90), durations.percentile(99), durations.percentile(100)));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @return "set value" for subject "set value(john)"
+   */
+  static String commandName(String subject) {
+    int argumentsStart = subject.indexOf('(');
+    return (argumentsStart < 0 ? subject : subject.substring(0, argumentsStart)).trim();
+  }
+
+  /**
+   * Steps of a single test. Used only by the test's thread until it's finished.
+   */
+  private static class TestBuffer implements LogEventListener {
+    private final String title;
+    private final int slowestStepsCount;
+    private final long startNs = System.nanoTime();
+    private final Map<String, Durations> durationsByCommand = new HashMap<>();
+    private final PriorityQueue<Step> slowestSteps = new PriorityQueue<>(Comparator.comparingLong(step -> step.durationMs));
+    private long durationMs;
+    private int steps;
+    private int failedSteps;
+
+    TestBuffer(String title, int slowestStepsCount) {
+      this.title = title;
+      this.slowestStepsCount = slowestStepsCount;
+    }
+
+    @Override
+    public void onEvent(LogEvent event) {
+      steps++;
+      if (event.getStatus() == FAIL) {
+        failedSteps++;
+      }
+      durationsByCommand.computeIfAbsent(commandName(event.getSubject()), name -> new Durations()).add(event.getDuration());
+
+      if (slowestSteps.size() < slowestStepsCount || event.getDuration() > slowestSteps.peek().durationMs) {
+        slowestSteps.add(new Step(title, event.getElement(), event.getSubject(), event.getDuration()));
+        if (slowestSteps.size() > slowestStepsCount) {
+          slowestSteps.poll();
+        }
+      }
+    }
+
+    void finish() {
+      durationMs = (System.nanoTime() - startNs) / 1000000;
+    }
+  }
+
+  private static class Step {
+    private final String test;
+    private final String element;
+    private final String subject;
+    private final long durationMs;
+
+    Step(String test, String element, String subject, long durationMs) {
+      this.test = test;
+      this.element = element;
+      this.subject = subject;
+      this.durationMs = durationMs;
+    }
+  }
+
+  /**
+   * Growing array of step durations (without boxing every value)
+   */
+  static class Durations {
+    private long[] values = new long[16];
+    private int size;
+
+    void add(long durationMs) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = durationMs;
+    }
+
+    void addAll(Durations other) {
+      for (int i = 0; i < other.size; i++) {
+        add(other.values[i]);
+      }
+    }
+
+    void sort() {
+      Arrays.sort(values, 0, size);
+    }
+
+    /**
+     * @return nearest-rank percentile of sorted durations
+     */
+    long percentile(int percent) {
+      if (size == 0) return 0;
+      int rank = (int) Math.ceil(percent / 100.0 * size);
+      return values[Math.max(rank, 1) - 1];
+    }
+  }
+}
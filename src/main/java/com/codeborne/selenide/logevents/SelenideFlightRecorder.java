@@ -0,0 +1,100 @@
+package com.codeborne.selenide.logevents;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Emits Java Flight Recorder events for Selenide steps, wait loops, screenshots,
+ * webdriver creation and file downloads.
+ *
+ * Events are shown in JFR timeline together with GC, CPU and other JVM events, so that one can see
+ * where the test time is actually spent. Usage:
+ * <pre>
+ *   java -XX:StartFlightRecording=filename=tests.jfr ...
+ * </pre>
+ *
+ * If JVM does not support JFR (it appeared in Java 11 and OpenJDK 8u262), or recording is not started,
+ * all methods return {@link FlightRecording#NONE} and cost almost nothing.
+ *
+ * @since Selenide 4.11.3
+ */
+public class SelenideFlightRecorder {
+  private static final Logger log = Logger.getLogger(SelenideFlightRecorder.class.getName());
+
+  static Recorder recorder = createRecorder();
+
+  public static FlightRecording beginStep(String element, String subject) {
+    return recorder.beginStep(element, subject);
+  }
+
+  /**
+   * @param element description of element being waited for (evaluated only if recording is enabled)
+   * @param subject the command or the condition being waited for
+   */
+  public static FlightRecording beginWait(Supplier<String> element, String subject) {
+    return recorder.beginWait(element, subject);
+  }
+
+  public static FlightRecording beginScreenshot(String target) {
+    return recorder.beginScreenshot(target);
+  }
+
+  public static FlightRecording beginDriverCreation(String browser) {
+    return recorder.beginDriverCreation(browser);
+  }
+
+  public static FlightRecording beginDownload(String element) {
+    return recorder.beginDownload(element);
+  }
+
+  static Recorder createRecorder() {
+    try {
+      Class.forName("jdk.jfr.Event");
+      return (Recorder) Class.forName("com.codeborne.selenide.logevents.JdkFlightRecorder")
+          .getDeclaredConstructor().newInstance();
+    }
+    catch (ClassNotFoundException jfrIsNotSupported) {
+      return new NoRecorder();
+    }
+    catch (ReflectiveOperationException | LinkageError e) {
+      log.log(Level.FINE, "Failed to initialize Java Flight Recorder events", e);
+      return new NoRecorder();
+    }
+  }
+
+  interface Recorder {
+    FlightRecording beginStep(String element, String subject);
+    FlightRecording beginWait(Supplier<String> element, String subject);
+    FlightRecording beginScreenshot(String target);
+    FlightRecording beginDriverCreation(String browser);
+    FlightRecording beginDownload(String element);
+  }
+
+  static class NoRecorder implements Recorder {
+    @Override
+    public FlightRecording beginStep(String element, String subject) {
+      return FlightRecording.NONE;
+    }
+
+    @Override
+    public FlightRecording beginWait(Supplier<String> element, String subject) {
+      return FlightRecording.NONE;
+    }
+
+    @Override
+    public FlightRecording beginScreenshot(String target) {
+      return FlightRecording.NONE;
+    }
+
+    @Override
+    public FlightRecording beginDriverCreation(String browser) {
+      return FlightRecording.NONE;
+    }
+
+    @Override
+    public FlightRecording beginDownload(String element) {
+      return FlightRecording.NONE;
+    }
+  }
+}
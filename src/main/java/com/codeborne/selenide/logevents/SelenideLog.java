@@ -10,10 +10,13 @@ public class SelenideLog implements LogEvent {
   private final String element;
   private EventStatus status = IN_PROGRESS;
   private Throwable error;
+  private final FlightRecording recording;
+  private final WaitStatistics waitStatistics = new WaitStatistics();
 
   public SelenideLog(String element, String subject) {
     this.element = element;
     this.subject = subject;
+    recording = SelenideFlightRecorder.beginStep(element, subject);
     startNs = System.nanoTime();
   }
 
@@ -30,6 +33,7 @@ public class SelenideLog implements LogEvent {
   protected void setStatus(EventStatus status) {
     this.status = status;
     endNs = System.nanoTime();
+    recording.status(status.name()).commit();
   }
 
   @Override
@@ -51,6 +55,11 @@ public class SelenideLog implements LogEvent {
     this.error = error;
   }
 
+  @Override
+  public WaitStatistics getWaitStatistics() {
+    return waitStatistics;
+  }
+
   @Override
   public String toString() {
     return "$(" + element + ") " + subject;
@@ -1,11 +1,13 @@
 package com.codeborne.selenide.logevents;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
 
 /**
  * Logs Selenide test steps and notifies all registered LogEventListener about it
@@ -13,6 +15,13 @@ import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 public class SelenideLogger {
   protected static ThreadLocal<Map<String, LogEventListener>> listeners = new ThreadLocal<>();
 
+  private static final Object globalListenersLock = new Object();
+
+  /**
+   * Copy-on-write: changed only under {@link #globalListenersLock}, read by every step without locking
+   */
+  private static volatile Map<String, LogEventListener> globalListeners = emptyMap();
+
   /**
    * Add a listener (to the current thread).
    * @param name unique name of this listener (per thread). 
@@ -25,10 +34,48 @@ public class SelenideLogger {
       threadListeners = new HashMap<>();
     }
 
-    threadListeners.put(name, listener);
+    replaced(threadListeners.put(name, listener), listener);
     listeners.set(threadListeners);
   }
 
+  /**
+   * Add a listener for all threads (including threads started by tests).
+   * Global listeners are notified after listeners of the current thread,
+   * and should be thread-safe because they are called from different threads at the same time.
+   *
+   * @param name unique name of this listener.
+   *             Can be used later to remove listener using method {@link #removeGlobalListener(String)}
+   * @param listener event listener
+   * @since Selenide 4.11.3
+   */
+  public static void addGlobalListener(String name, LogEventListener listener) {
+    synchronized (globalListenersLock) {
+      Map<String, LogEventListener> copy = new LinkedHashMap<>(globalListeners);
+      replaced(copy.put(name, listener), listener);
+      globalListeners = unmodifiableMap(copy);
+    }
+  }
+
+  /**
+   * Remove listener added by method {@link #addGlobalListener(String, LogEventListener)}.
+   * Asynchronous listener is flushed before removing, and closed if no other thread uses it (see {@link AsyncLogEventListener}).
+   *
+   * @param name unique name of listener
+   * @param <T> class of listener to be returned
+   * @return the listener being removed
+   * @since Selenide 4.11.3
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends LogEventListener> T removeGlobalListener(String name) {
+    LogEventListener listener;
+    synchronized (globalListenersLock) {
+      Map<String, LogEventListener> copy = new LinkedHashMap<>(globalListeners);
+      listener = copy.remove(name);
+      globalListeners = unmodifiableMap(copy);
+    }
+    return (T) unregistered(listener);
+  }
+
   public static SelenideLog beginStep(String source, String methodName, Object... args) {
     return beginStep(source, readableMethodName(methodName) + "(" + readableArguments(args) + ")");
   }
@@ -59,21 +106,20 @@ public class SelenideLogger {
   public static void commitStep(SelenideLog log, LogEvent.EventStatus status) {
     log.setStatus(status);
 
-    Collection<LogEventListener> listeners = getEventLoggerListeners();
-    for (LogEventListener listener : listeners) {
-      listener.onEvent(log);
+    Map<String, LogEventListener> threadListeners = listeners.get();
+    if (threadListeners != null) {
+      for (LogEventListener listener : threadListeners.values()) {
+        listener.onEvent(log);
+      }
     }
-  }
-
-  private static Collection<LogEventListener> getEventLoggerListeners() {
-    if (listeners.get() == null) {
-      listeners.set(new HashMap<String, LogEventListener>());
+    for (LogEventListener listener : globalListeners.values()) {
+      listener.onEvent(log);
     }
-    return listeners.get().values();
   }
 
   /**
    * Remove listener (from the current thread).
+   * Asynchronous listener is flushed before removing, and closed if no other thread uses it (see {@link AsyncLogEventListener}).
    * @param name unique name of listener added by method {@link #addListener(String, LogEventListener)}
    * @param <T> class of listener to be returned
    * @return the listener being removed
@@ -81,13 +127,47 @@ public class SelenideLogger {
   @SuppressWarnings("unchecked")
   public static <T extends LogEventListener> T removeListener(String name) {
     Map<String, LogEventListener> listeners = SelenideLogger.listeners.get();
-    return listeners == null ? null : (T) listeners.remove(name);
+    return listeners == null ? null : (T) unregistered(listeners.remove(name));
   }
   
+  /**
+   * Remove all listeners of the current thread. Global listeners are not removed.
+   */
   public static void removeAllListeners() {
+    Map<String, LogEventListener> listeners = SelenideLogger.listeners.get();
+    if (listeners != null) {
+      for (LogEventListener listener : listeners.values()) {
+        unregistered(listener);
+      }
+    }
     SelenideLogger.listeners.remove();
   }
 
+  private static void replaced(LogEventListener previous, LogEventListener listener) {
+    if (previous == listener) return;
+    if (listener instanceof AsyncLogEventListener) {
+      ((AsyncLogEventListener) listener).registered();
+    }
+    unregistered(previous);
+  }
+
+  private static LogEventListener unregistered(LogEventListener listener) {
+    if (listener instanceof AsyncLogEventListener) {
+      ((AsyncLogEventListener) listener).unregistered();
+    }
+    return listener;
+  }
+
+  /**
+   * If global listener with given name has been added
+   *
+   * @param name unique name of listener added by method {@link #addGlobalListener(String, LogEventListener)}
+   * @since Selenide 4.11.3
+   */
+  public static boolean hasGlobalListener(String name) {
+    return globalListeners.containsKey(name);
+  }
+
   /**
    * If listener with given name is bound (added) to the current thread.
    *
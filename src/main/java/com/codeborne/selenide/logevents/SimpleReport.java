@@ -1,9 +1,10 @@
 package com.codeborne.selenide.logevents;
 
+import com.codeborne.selenide.Configuration;
 import com.google.common.base.Joiner;
 
+import java.io.File;
 import java.util.Collections;
-import java.util.OptionalInt;
 import java.util.logging.Logger;
 
 /**
@@ -15,45 +16,111 @@ public class SimpleReport {
   private static final Logger log = Logger.getLogger(SimpleReport.class.getName());
 
   public void start() {
-    SelenideLogger.addListener("simpleReport", new EventsCollector());
+    if (Configuration.stepsLogFolder == null) {
+      SelenideLogger.addListener("simpleReport", new EventsCollector());
+    }
+    else {
+      String fileName = "steps-" + System.currentTimeMillis() + "-" + Thread.currentThread().getId() + ".jsonl";
+      SelenideLogger.addListener("simpleReport", new StepLogWriter(new File(Configuration.stepsLogFolder, fileName)));
+    }
   }
 
   public void finish(String title) {
-    EventsCollector logEventListener = SelenideLogger.removeListener("simpleReport");
+    LogEventListener logEventListener = SelenideLogger.removeListener("simpleReport");
 
     if (logEventListener == null) {
       log.warning("Can not publish report because Selenide logger has not started.");
       return;
     }
 
-    OptionalInt maxLineLength = logEventListener.events()
-            .stream()
-            .map(LogEvent::getElement)
-            .map(String::length)
-            .mapToInt(Integer::intValue)
-            .max();
+    if (logEventListener instanceof StepLogWriter) {
+      StepLogWriter writer = (StepLogWriter) logEventListener;
+      writer.close();
+      log.info("Report for " + title + ": " + writer.getFile().getAbsolutePath() + '\n' + writer.getSummary());
+    }
+    else {
+      log.info(generateReport(title, ((EventsCollector) logEventListener).events()));
+    }
+  }
+
+  /**
+   * @return report table for given steps (iterated twice: to find column width, and to print the rows)
+   * @since Selenide 4.11.3
+   */
+  public String generateReport(String title, Iterable<? extends LogEvent> events) {
+    int maxLineLength = 0;
+    for (LogEvent e : events) {
+      maxLineLength = Math.max(maxLineLength, e.getElement().length());
+    }
 
-    int count = maxLineLength.orElse(0) >= 20 ? (maxLineLength.getAsInt() + 1) : 20;
+    int count = maxLineLength >= 20 ? (maxLineLength + 1) : 20;
 
     StringBuilder sb = new StringBuilder();
     sb.append("Report for ").append(title).append('\n');
 
-    String delimiter = '+' + Joiner.on('+').join(line(count), line(70), line(10), line(10)) + "+\n";
+    String delimiter = '+' + Joiner.on('+').join(line(count), line(70), line(10), line(10),
+        line(10), line(10), line(10), line(10)) + "+\n";
+    String format = "|%-" + count + "s|%-70s|%-10s|%-10s|%-10s|%-10s|%-10s|%-10s|%n";
 
     sb.append(delimiter);
-    sb.append(String.format("|%-" + count + "s|%-70s|%-10s|%-10s|%n", "Element", "Subject", "Status", "ms."));
+    sb.append(String.format(format, "Element", "Subject", "Status", "ms.",
+        "attempts", "sleep ms.", "driver ms.", "cond. ms."));
     sb.append(delimiter);
 
-    for (LogEvent e : logEventListener.events()) {
-      sb.append(String.format("|%-" + count + "s|%-70s|%-10s|%-10s|%n", e.getElement(), e.getSubject(),
-              e.getStatus(), e.getDuration()));
+    WaitSummary summary = new WaitSummary();
+    for (LogEvent e : events) {
+      WaitStatistics wait = e.getWaitStatistics();
+      sb.append(String.format(format, e.getElement(), e.getSubject(), e.getStatus(), e.getDuration(),
+          wait.getAttempts(), wait.getSleepMs(), wait.getDriverMs(), wait.getConditionMs()));
+      summary.add(e);
     }
     sb.append(delimiter);
-    log.info(sb.toString());
+    sb.append(summary).append('\n');
+    return sb.toString();
   }
-  
+
+  /**
+   * Total time of all steps, split into sleeping between attempts, webdriver calls and condition evaluation.
+   * Steps that needed more than one attempt are counted separately:
+   * their duration is affected by polling interval, not only by the application speed.
+   */
+  static class WaitSummary {
+    int steps;
+    long durationMs;
+    int attempts;
+    long sleepMs;
+    long driverMs;
+    long conditionMs;
+    int retriedSteps;
+    long retriedStepsDurationMs;
+
+    void add(LogEvent event) {
+      WaitStatistics wait = event.getWaitStatistics();
+      steps++;
+      durationMs += event.getDuration();
+      attempts += wait.getAttempts();
+      sleepMs += wait.getSleepMs();
+      driverMs += wait.getDriverMs();
+      conditionMs += wait.getConditionMs();
+      if (wait.getAttempts() > 1) {
+        retriedSteps++;
+        retriedStepsDurationMs += event.getDuration();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Total: %d steps in %d ms, %d attempts, sleep %d ms, driver %d ms, conditions %d ms. " +
+              "Retried: %d steps in %d ms",
+          steps, durationMs, attempts, sleepMs, driverMs, conditionMs, retriedSteps, retriedStepsDurationMs);
+    }
+  }
+
   public void clean() {
-    SelenideLogger.removeListener("simpleReport");
+    LogEventListener logEventListener = SelenideLogger.removeListener("simpleReport");
+    if (logEventListener instanceof StepLogWriter) {
+      ((StepLogWriter) logEventListener).close();
+    }
   }
 
   private String line(int count) {
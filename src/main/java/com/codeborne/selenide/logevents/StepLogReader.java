@@ -0,0 +1,147 @@
+package com.codeborne.selenide.logevents;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads steps written by {@link StepLogWriter}.
+ *
+ * Steps are read lazily, one line at a time. Can be also used from command line to print the report table:
+ * <pre>
+ *   java -cp selenide.jar:gson.jar:guava.jar com.codeborne.selenide.logevents.StepLogReader build/reports/steps/*.jsonl
+ * </pre>
+ *
+ * @since Selenide 4.11.3
+ */
+public class StepLogReader {
+  public static void main(String[] args) {
+    for (String fileName : args) {
+      File file = new File(fileName);
+      System.out.println(new SimpleReport().generateReport(file.getName(), read(file)));
+    }
+  }
+
+  /**
+   * @return steps from given file. Every iteration reads the file again from the beginning.
+   */
+  public static Iterable<LogEvent> read(File file) {
+    return () -> new StepIterator(file);
+  }
+
+  private static class StepIterator implements Iterator<LogEvent> {
+    private final JsonParser parser = new JsonParser();
+    private final BufferedReader reader;
+    private String nextLine;
+
+    StepIterator(File file) {
+      try {
+        reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+        nextLine = readNextLine();
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Cannot read steps from " + file.getAbsolutePath(), e);
+      }
+    }
+
+    private String readNextLine() throws IOException {
+      String line;
+      do {
+        line = reader.readLine();
+      }
+      while (line != null && line.trim().isEmpty());
+
+      if (line == null) {
+        reader.close();
+      }
+      return line;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextLine != null;
+    }
+
+    @Override
+    public LogEvent next() {
+      if (nextLine == null) throw new NoSuchElementException();
+      try {
+        LogEvent step = new RecordedStep(parser.parse(nextLine).getAsJsonObject());
+        nextLine = readNextLine();
+        return step;
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  static class RecordedStep implements LogEvent {
+    private final String element;
+    private final String subject;
+    private final EventStatus status;
+    private final long durationMs;
+    private final WaitStatistics waitStatistics;
+    private final String error;
+
+    RecordedStep(JsonObject json) {
+      element = string(json.get("element"));
+      subject = string(json.get("subject"));
+      status = EventStatus.valueOf(json.get("status").getAsString());
+      durationMs = json.get("durationMs").getAsLong();
+      waitStatistics = new WaitStatistics(json.get("attempts").getAsInt(), json.get("sleepMs").getAsLong(),
+          json.get("driverMs").getAsLong(), json.get("conditionMs").getAsLong());
+      error = string(json.get("error"));
+    }
+
+    private static String string(JsonElement value) {
+      return value == null || value.isJsonNull() ? null : value.getAsString();
+    }
+
+    @Override
+    public String getElement() {
+      return element;
+    }
+
+    @Override
+    public String getSubject() {
+      return subject;
+    }
+
+    @Override
+    public EventStatus getStatus() {
+      return status;
+    }
+
+    @Override
+    public long getDuration() {
+      return durationMs;
+    }
+
+    /**
+     * @return null: only the error message is recorded, see {@link #getErrorMessage()}
+     */
+    @Override
+    public Throwable getError() {
+      return null;
+    }
+
+    public String getErrorMessage() {
+      return error;
+    }
+
+    @Override
+    public WaitStatistics getWaitStatistics() {
+      return waitStatistics;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.codeborne.selenide.logevents;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes every step to a file in JSON Lines format (one JSON object per line) as soon as the step is finished.
+ *
+ * Memory usage does not depend on number of steps, so it's suitable for long scenario tests.
+ * The file can be read by {@link StepLogReader}.
+ *
+ * @since Selenide 4.11.3
+ */
+public class StepLogWriter implements LogEventListener {
+  private static final Logger log = Logger.getLogger(StepLogWriter.class.getName());
+
+  private final File file;
+  private final Writer writer;
+  private final SimpleReport.WaitSummary summary = new SimpleReport.WaitSummary();
+  private boolean failed;
+
+  public StepLogWriter(File file) {
+    this.file = file;
+    try {
+      file.getAbsoluteFile().getParentFile().mkdirs();
+      this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+    }
+    catch (IOException e) {
+      throw new IllegalArgumentException("Cannot write steps to " + file.getAbsolutePath(), e);
+    }
+  }
+
+  @Override
+  public synchronized void onEvent(LogEvent event) {
+    summary.add(event);
+    if (failed) return;
+
+    try {
+      JsonWriter json = new JsonWriter(writer);
+      json.beginObject()
+          .name("element").value(event.getElement())
+          .name("subject").value(event.getSubject())
+          .name("status").value(event.getStatus().name())
+          .name("durationMs").value(event.getDuration())
+          .name("attempts").value(event.getWaitStatistics().getAttempts())
+          .name("sleepMs").value(event.getWaitStatistics().getSleepMs())
+          .name("driverMs").value(event.getWaitStatistics().getDriverMs())
+          .name("conditionMs").value(event.getWaitStatistics().getConditionMs());
+      if (event.getError() != null) {
+        json.name("error").value(event.getError().toString());
+      }
+      json.endObject();
+      writer.write('\n');
+      writer.flush();
+    }
+    catch (IOException e) {
+      failed = true;
+      log.log(Level.WARNING, "Failed to write steps to " + file.getAbsolutePath(), e);
+    }
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * @return summary of all steps written by this writer
+   */
+  public synchronized String getSummary() {
+    return summary.toString();
+  }
+
+  public synchronized void close() {
+    try {
+      writer.close();
+    }
+    catch (IOException e) {
+      log.log(Level.WARNING, "Failed to close " + file.getAbsolutePath(), e);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.codeborne.selenide.logevents;
+
+/**
+ * Breakdown of time spent by a single Selenide step in its polling loop:
+ * how many attempts were needed, how long Selenide slept between attempts,
+ * how long it spent in webdriver calls and in {@link com.codeborne.selenide.Condition#apply}.
+ *
+ * Time spent in condition evaluation includes webdriver calls made by the condition itself
+ * (like {@code element.getText()}), time spent in webdriver means the rest of command execution.
+ *
+ * @since Selenide 4.11.3
+ */
+public class WaitStatistics {
+  private static final ThreadLocal<WaitStatistics> current = new ThreadLocal<>();
+
+  private final long startNs = System.nanoTime();
+  private int attempts;
+  private long sleepMs;
+  private long commandNs;
+  private long conditionNs;
+  private long attemptStartNs;
+  private long succeededAtMs = -1;
+
+  public WaitStatistics() {
+  }
+
+  /**
+   * Statistics of a step recorded earlier (see {@link StepLogReader})
+   */
+  WaitStatistics(int attempts, long sleepMs, long driverMs, long conditionMs) {
+    this.attempts = attempts;
+    this.sleepMs = sleepMs;
+    this.commandNs = (driverMs + conditionMs) * 1000000;
+    this.conditionNs = conditionMs * 1000000;
+  }
+
+  /**
+   * Bind these statistics to the current thread,
+   * so that condition checks deep inside of commands could report their timing.
+   *
+   * @return statistics previously bound to the current thread (can be null)
+   */
+  public WaitStatistics bind() {
+    WaitStatistics previous = current.get();
+    current.set(this);
+    return previous;
+  }
+
+  /**
+   * Restore statistics that were bound to the current thread before calling {@link #bind()}
+   */
+  public static void restore(WaitStatistics previous) {
+    if (previous == null) {
+      current.remove();
+    }
+    else {
+      current.set(previous);
+    }
+  }
+
+  /**
+   * Report that a condition evaluation started at {@code conditionStartNs} has been finished.
+   * Does nothing if no statistics are bound to the current thread.
+   */
+  public static void conditionEvaluated(long conditionStartNs) {
+    WaitStatistics statistics = current.get();
+    if (statistics != null) {
+      statistics.addConditionTime(conditionStartNs);
+    }
+  }
+
+  public void attemptStarted() {
+    attempts++;
+    attemptStartNs = System.nanoTime();
+  }
+
+  public void attemptFinished() {
+    commandNs += System.nanoTime() - attemptStartNs;
+  }
+
+  public void addConditionTime(long conditionStartNs) {
+    conditionNs += System.nanoTime() - conditionStartNs;
+  }
+
+  public void slept(long ms) {
+    sleepMs += ms;
+  }
+
+  public void succeeded() {
+    succeededAtMs = (System.nanoTime() - startNs) / 1000000;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public long getSleepMs() {
+    return sleepMs;
+  }
+
+  public long getDriverMs() {
+    return Math.max(0, commandNs - conditionNs) / 1000000;
+  }
+
+  public long getConditionMs() {
+    return conditionNs / 1000000;
+  }
+
+  /**
+   * @return time (in milliseconds since the beginning of step) when the command succeeded
+   *         (i.e. the condition was found to be true), or -1 if the command never succeeded.
+   */
+  public long getSucceededAtMs() {
+    return succeededAtMs;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("attempts: %d, sleep: %d ms, driver: %d ms, condition: %d ms, succeeded at: %d ms",
+        attempts, sleepMs, getDriverMs(), getConditionMs(), succeededAtMs);
+  }
+}
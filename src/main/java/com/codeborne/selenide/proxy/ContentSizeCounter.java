@@ -0,0 +1,44 @@
+package com.codeborne.selenide.proxy;
+
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.LastHttpContent;
+
+/**
+ * Counts size of http message passing through proxy server chunk by chunk, without aggregating its content.
+ * Header "Content-Length" is trusted if present, so that too large messages are detected before their content.
+ */
+class ContentSizeCounter {
+  private final int threshold;
+  private long size;
+  private boolean reported;
+
+  ContentSizeCounter(int threshold) {
+    this.threshold = threshold;
+  }
+
+  /**
+   * @return size of message in bytes if it's larger than threshold (only once per message), or -1 otherwise
+   */
+  long tooLarge(HttpObject httpObject) {
+    if (httpObject instanceof HttpMessage) {
+      size = 0;
+      reported = false;
+      long contentLength = HttpHeaders.getContentLength((HttpMessage) httpObject, -1);
+      if (contentLength > threshold) {
+        reported = true;
+        return contentLength;
+      }
+    }
+    if (httpObject instanceof HttpContent && !reported) {
+      size += ((HttpContent) httpObject).content().readableBytes();
+      if (httpObject instanceof LastHttpContent && size > threshold) {
+        reported = true;
+        return size;
+      }
+    }
+    return -1;
+  }
+}
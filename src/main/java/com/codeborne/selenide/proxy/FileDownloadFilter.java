@@ -12,20 +12,35 @@ import org.apache.commons.io.FileUtils;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Intercepts responses with header "Content-Disposition" and saves them to files.
+ *
+ * Proxy server passes responses to this filter only while it's active (see {@link FileDownloadInterceptor}),
+ * and only content of downloaded files is buffered in memory.
+ *
+ * Responses are intercepted by proxy server threads. Downloaded files are published to the test thread
+ * through thread-safe lists, and threads waiting for downloads are notified as soon as a file is saved.
+ */
 public class FileDownloadFilter implements ResponseFilter {
   private static final Logger log = Logger.getLogger(FileDownloadFilter.class.getName());
 
   private HttpHelper httpHelper = new HttpHelper();
-  private boolean active;
-  private final List<File> downloadedFiles = new ArrayList<>();
-  private final List<Response> responses = new ArrayList<>();
+  private volatile boolean active;
+  private final List<File> downloadedFiles = new CopyOnWriteArrayList<>();
+  private final List<Response> responses = new CopyOnWriteArrayList<>();
+  private final Object downloads = new Object();
 
   /**
    * Activate this filter.
@@ -46,30 +61,47 @@ public class FileDownloadFilter implements ResponseFilter {
     active = false;
   }
 
+  boolean isActive() {
+    return active;
+  }
+
   @Override
   public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
     if (!active) return;
-    responses.add(new Response(messageInfo.getUrl(),
+    responseReceived(messageInfo.getUrl(), response, contents.getContentType(), contents.getTextContents().length());
+
+    String fileName = downloadedFileName(response);
+    if (fileName != null) {
+      saveFile(fileName, contents.getBinaryContents(), messageInfo.getUrl());
+    }
+  }
+
+  void responseReceived(String url, HttpResponse response, String contentType, long size) {
+    responses.add(new Response(url,
         response.getStatus().code(),
         response.getStatus().reasonPhrase(),
         toMap(response.headers()),
-        contents.getContentType(),
-        contents.getTextContents()
+        contentType,
+        size
     ));
+  }
 
-    if (response.getStatus().code() < 200 || response.getStatus().code() >= 300) return;
-
-    String fileName = getFileName(response);
-    if (fileName == null) return;
+  /**
+   * @return name of the file if the response is a successful download, or null otherwise
+   */
+  String downloadedFileName(HttpResponse response) {
+    if (response.getStatus().code() < 200 || response.getStatus().code() >= 300) return null;
+    return getFileName(response);
+  }
 
+  void saveFile(String fileName, byte[] content, String url) {
     File file = prepareTargetFile(fileName);
     try {
-      FileUtils.writeByteArrayToFile(file, contents.getBinaryContents());
-      downloadedFiles.add(file);
+      FileUtils.writeByteArrayToFile(file, content);
+      fileDownloaded(file);
     }
     catch (IOException e) {
-      log.log(Level.SEVERE, "Failed to save downloaded file to " + file.getAbsolutePath() +
-          " for url " + messageInfo.getUrl(), e);
+      log.log(Level.SEVERE, "Failed to save downloaded file to " + file.getAbsolutePath() + " for url " + url, e);
     }
   }
 
@@ -81,11 +113,47 @@ public class FileDownloadFilter implements ResponseFilter {
     return map;
   }
 
+  private void fileDownloaded(File file) {
+    downloadedFiles.add(file);
+    synchronized (downloads) {
+      downloads.notifyAll();
+    }
+  }
+
   /**
    * @return list of all downloaded files since activation.
    */
   public List<File> getDownloadedFiles() {
-    return downloadedFiles;
+    return Collections.unmodifiableList(new ArrayList<>(downloadedFiles));
+  }
+
+  /**
+   * Wait until at least {@code count} files matching {@code fileFilter} are downloaded since activation.
+   * Returns as soon as the last of them is saved (without polling).
+   *
+   * @param fileFilter e.g. {@code file -> file.getName().endsWith(".pdf")}
+   * @return downloaded files matching {@code fileFilter}: {@code count} or more,
+   * or less if they have not been downloaded in {@code timeoutMs}
+   * @since Selenide 4.11.3
+   */
+  public List<File> waitForDownloads(int count, Predicate<File> fileFilter, long timeoutMs) {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    synchronized (downloads) {
+      while (true) {
+        List<File> files = downloadedFiles.stream().filter(fileFilter).collect(toList());
+        long remainingMs = deadline - System.currentTimeMillis();
+        if (files.size() >= count || remainingMs <= 0) {
+          return files;
+        }
+        try {
+          downloads.wait(remainingMs);
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return files;
+        }
+      }
+    }
   }
 
   protected File prepareTargetFile(String fileName) {
@@ -122,22 +190,22 @@ public class FileDownloadFilter implements ResponseFilter {
     private String reasonPhrase;
     private String contentType;
     private Map<String, String> headers;
-    private String content;
+    private long size;
 
     private Response(String url, int code, String reasonPhrase, Map<String, String> headers,
-                     String contentType, String content) {
+                     String contentType, long size) {
       this.url = url;
       this.code = code;
       this.reasonPhrase = reasonPhrase;
       this.headers = headers;
       this.contentType = contentType;
-      this.content = content;
+      this.size = size;
     }
 
     @Override
     public String toString() {
       return url + " -> " + code + " \"" + reasonPhrase + "\" " + headers + " " +
-          contentType + " " + " (" + content.length() + " bytes)";
+          contentType + " " + " (" + size + " bytes)";
     }
   }
 }
@@ -0,0 +1,82 @@
+package com.codeborne.selenide.proxy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import net.lightbody.bmp.filters.HttpsAwareFiltersAdapter;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Passes responses to {@link FileDownloadFilter} while it's active.
+ *
+ * Unlike filters added by {@link SelenideProxyServer#addResponseFilter(String, net.lightbody.bmp.filters.ResponseFilter)},
+ * it does not make proxy server aggregate every response: content is read chunk by chunk,
+ * and only content of downloaded files is collected.
+ */
+class FileDownloadInterceptor extends HttpFiltersSourceAdapter {
+  private final FileDownloadFilter filter;
+
+  FileDownloadInterceptor(FileDownloadFilter filter) {
+    this.filter = filter;
+  }
+
+  @Override
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    return filter.isActive() ? new DownloadReader(originalRequest, ctx) : null;
+  }
+
+  private class DownloadReader extends HttpsAwareFiltersAdapter {
+    private HttpResponse response;
+    private String fileName;
+    private ByteArrayOutputStream content;
+    private long size;
+
+    DownloadReader(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+      super(originalRequest, ctx);
+    }
+
+    @Override
+    public HttpObject serverToProxyResponse(HttpObject httpObject) {
+      if (httpObject instanceof HttpResponse) {
+        response = (HttpResponse) httpObject;
+        fileName = filter.downloadedFileName(response);
+        content = fileName == null ? null : new ByteArrayOutputStream();
+        size = 0;
+      }
+      if (httpObject instanceof HttpContent && response != null) {
+        read(((HttpContent) httpObject).content());
+        if (httpObject instanceof LastHttpContent) {
+          responseReceived();
+        }
+      }
+      return httpObject;
+    }
+
+    private void read(ByteBuf chunk) {
+      int length = chunk.readableBytes();
+      size += length;
+      if (content != null) {
+        byte[] bytes = new byte[length];
+        chunk.getBytes(chunk.readerIndex(), bytes);
+        content.write(bytes, 0, length);
+      }
+    }
+
+    private void responseReceived() {
+      String url = getOriginalUrl();
+      filter.responseReceived(url, response, response.headers().get("Content-Type"), size);
+      if (content != null) {
+        filter.saveFile(fileName, content.toByteArray(), url);
+      }
+      response = null;
+      content = null;
+    }
+  }
+}
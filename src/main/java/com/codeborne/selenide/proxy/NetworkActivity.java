@@ -0,0 +1,121 @@
+package com.codeborne.selenide.proxy;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * Tracks requests from browser that are passing through {@link SelenideProxyServer} at the moment.
+ *
+ * Counters are updated without locks. Threads waiting for network idle are woken up
+ * only when the last request in flight is finished.
+ *
+ * @since Selenide 4.11.3
+ */
+public class NetworkActivity extends HttpFiltersSourceAdapter {
+  private final AtomicInteger requestsInFlight = new AtomicInteger();
+  private final AtomicLong lastActivity = new AtomicLong(currentTimeMillis());
+  private final Object idle = new Object();
+
+  @Override
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    if (HttpMethod.CONNECT.equals(originalRequest.getMethod())) {
+      return super.filterRequest(originalRequest, ctx);
+    }
+
+    requestStarted();
+    return new HttpFiltersAdapter(originalRequest, ctx) {
+      private final AtomicBoolean finished = new AtomicBoolean();
+
+      @Override
+      public HttpObject proxyToClientResponse(HttpObject httpObject) {
+        if (httpObject instanceof LastHttpContent) {
+          finish();
+        }
+        return httpObject;
+      }
+
+      @Override
+      public void serverToProxyResponseReceived() {
+        finish();
+      }
+
+      @Override
+      public void serverToProxyResponseTimedOut() {
+        finish();
+      }
+
+      @Override
+      public void proxyToServerConnectionFailed() {
+        finish();
+      }
+
+      private void finish() {
+        if (finished.compareAndSet(false, true)) {
+          requestFinished();
+        }
+      }
+    };
+  }
+
+  void requestStarted() {
+    requestsInFlight.incrementAndGet();
+    lastActivity.set(currentTimeMillis());
+  }
+
+  void requestFinished() {
+    lastActivity.set(currentTimeMillis());
+    if (requestsInFlight.decrementAndGet() == 0) {
+      synchronized (idle) {
+        idle.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * @return number of requests sent by browser that have not been answered yet
+   */
+  public int getRequestsInFlight() {
+    return requestsInFlight.get();
+  }
+
+  /**
+   * Wait until there are no requests in flight during {@code quietPeriodMs}
+   *
+   * @return true if network is idle, false if it has not become idle in {@code timeoutMs}
+   */
+  public boolean waitForIdle(long quietPeriodMs, long timeoutMs) {
+    long deadline = currentTimeMillis() + timeoutMs;
+    synchronized (idle) {
+      while (true) {
+        long now = currentTimeMillis();
+        long quietFor = now - lastActivity.get();
+        if (requestsInFlight.get() == 0 && quietFor >= quietPeriodMs) {
+          return true;
+        }
+        if (now >= deadline) {
+          return false;
+        }
+        long untilQuietPeriodEnds = requestsInFlight.get() == 0 ? quietPeriodMs - quietFor : quietPeriodMs;
+        try {
+          idle.wait(Math.max(1, Math.min(untilQuietPeriodEnds, deadline - now)));
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+  }
+}
@@ -1,27 +1,38 @@
 package com.codeborne.selenide.proxy;
 
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
-import net.lightbody.bmp.filters.RequestFilter;
-import net.lightbody.bmp.util.HttpMessageContents;
-import net.lightbody.bmp.util.HttpMessageInfo;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
 
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class RequestSizeWatchdog implements RequestFilter {
+/**
+ * Logs too large requests from browser.
+ *
+ * Request content is counted chunk by chunk, so that requests are not buffered in proxy server memory.
+ */
+public class RequestSizeWatchdog extends HttpFiltersSourceAdapter {
   private static final Logger log = Logger.getLogger(RequestSizeWatchdog.class.getName());
 
   int threshold = 2 * 1024 * 1024; // 2 MB
 
   @Override
-  public HttpResponse filterRequest(HttpRequest request, HttpMessageContents contents, HttpMessageInfo messageInfo) {
-    if (contents.getBinaryContents().length > threshold) {
-      log.warning("Too large request " + messageInfo.getUrl() + ": " + contents.getBinaryContents().length + " bytes");
-      if (log.isLoggable(Level.FINEST)) {
-        log.finest("Request content: " + contents.getTextContents());
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    return new HttpFiltersAdapter(originalRequest, ctx) {
+      private final ContentSizeCounter counter = new ContentSizeCounter(threshold);
+
+      @Override
+      public HttpResponse clientToProxyRequest(HttpObject httpObject) {
+        long size = counter.tooLarge(httpObject);
+        if (size >= 0) {
+          log.warning("Too large request " + originalRequest.getUri() + ": " + size + " bytes");
+        }
+        return null;
       }
-    }
-    return null;
+    };
   }
 }
@@ -1,25 +1,37 @@
 package com.codeborne.selenide.proxy;
 
-import io.netty.handler.codec.http.HttpResponse;
-import net.lightbody.bmp.filters.ResponseFilter;
-import net.lightbody.bmp.util.HttpMessageContents;
-import net.lightbody.bmp.util.HttpMessageInfo;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
 
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class ResponseSizeWatchdog implements ResponseFilter {
+/**
+ * Logs too large responses from server.
+ *
+ * Response content is counted chunk by chunk, so that responses are not buffered in proxy server memory.
+ */
+public class ResponseSizeWatchdog extends HttpFiltersSourceAdapter {
   private static final Logger log = Logger.getLogger(ResponseSizeWatchdog.class.getName());
 
   int threshold = 2 * 1024 * 1024; // 2 MB
 
   @Override
-  public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
-    if (contents.getBinaryContents().length > threshold) {
-      log.warning("Too large response " + messageInfo.getUrl() + ": " + contents.getBinaryContents().length + " bytes");
-      if (log.isLoggable(Level.FINEST)) {
-        log.finest("Response content: " + contents.getTextContents());
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    return new HttpFiltersAdapter(originalRequest, ctx) {
+      private final ContentSizeCounter counter = new ContentSizeCounter(threshold);
+
+      @Override
+      public HttpObject serverToProxyResponse(HttpObject httpObject) {
+        long size = counter.tooLarge(httpObject);
+        if (size >= 0) {
+          log.warning("Too large response " + originalRequest.getUri() + ": " + size + " bytes");
+        }
+        return httpObject;
       }
-    }
+    };
   }
 }
@@ -37,6 +37,7 @@ public class SelenideProxyServer {
   protected int port;
   protected Map<String, RequestFilter> requestFilters = new HashMap<>();
   protected Map<String, ResponseFilter> responseFilters = new HashMap<>();
+  protected final NetworkActivity networkActivity = new NetworkActivity();
 
   /**
    * Create server
@@ -51,7 +52,9 @@ public class SelenideProxyServer {
   /**
    * Start the server
    *
-   * It automatically adds one response filter "download" that can intercept downloaded files.
+   * It automatically adds one response filter "download" that can intercept downloaded files
+   * (responses are passed to it only while it's active, see {@link FileDownloadFilter#activate()}),
+   * and starts tracking requests in flight (see {@link #networkActivity()}).
    */
   public void start() {
     proxy.setTrustAllServers(true);
@@ -59,9 +62,13 @@ public class SelenideProxyServer {
       proxy.setChainedProxy(getProxyAddress(outsideProxy));
     }
 
-    addRequestFilter("requestSizeWatchdog", new RequestSizeWatchdog());
-    addResponseFilter("responseSizeWatchdog", new ResponseSizeWatchdog());
-    addResponseFilter("download", new FileDownloadFilter());
+    proxy.addFirstHttpFilterFactory(networkActivity);
+
+    proxy.addFirstHttpFilterFactory(new RequestSizeWatchdog());
+    proxy.addLastHttpFilterFactory(new ResponseSizeWatchdog());
+    FileDownloadFilter downloadFilter = new FileDownloadFilter();
+    proxy.addLastHttpFilterFactory(new FileDownloadInterceptor(downloadFilter));
+    responseFilters.put("download", downloadFilter);
 
     proxy.start();
     port = proxy.getPort();
@@ -123,6 +130,15 @@ public class SelenideProxyServer {
     return String.format("Selenide proxy server :%s", port);
   }
 
+  /**
+   * Requests from browser that are in flight at the moment
+   *
+   * @since Selenide 4.11.3
+   */
+  public NetworkActivity networkActivity() {
+    return networkActivity;
+  }
+
   /**
    * Get request filter by name
    */
@@ -1,10 +1,15 @@
 package com.codeborne.selenide.testng;
 
+import com.codeborne.selenide.logevents.RunSummary;
 import com.codeborne.selenide.logevents.SimpleReport;
 import org.testng.IInvokedMethod;
 import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestResult;
 
+import java.util.logging.Logger;
+
 /**
  * Reports for every test method in the suite
  * Annotate any test class in your suite with {@code @Listeners({GlobalTextReport.class})}
@@ -12,17 +17,40 @@ import org.testng.ITestResult;
  * @since Selenide 3.6
  * <p>
  * Use either {@link TextReport} or {@link GlobalTextReport}, never both
+ * <p>
+ * After the suite, a {@link RunSummary} of all tests is reported (also when tests run in parallel threads),
+ * unless no Selenide steps have been recorded.
  */
-public class GlobalTextReport implements IInvokedMethodListener {
+public class GlobalTextReport implements IInvokedMethodListener, ISuiteListener {
+  private static final Logger log = Logger.getLogger(GlobalTextReport.class.getName());
+
   protected SimpleReport report = new SimpleReport();
+  protected RunSummary runSummary = new RunSummary();
 
   @Override
   public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
     report.start();
+    if (method.isTestMethod()) {
+      runSummary.testStarted(testResult.getTestClass().getName() + '.' + testResult.getName());
+    }
   }
 
   @Override
   public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+    if (method.isTestMethod()) {
+      runSummary.testFinished();
+    }
     report.finish(testResult.getName());
   }
+
+  @Override
+  public void onStart(ISuite suite) {
+  }
+
+  @Override
+  public void onFinish(ISuite suite) {
+    if (runSummary.hasSteps()) {
+      log.info("Summary of " + suite.getName() + '\n' + runSummary.generateReport());
+    }
+  }
 }
@@ -1,12 +1,17 @@
 package com.codeborne.selenide.testng;
 
+import com.codeborne.selenide.logevents.RunSummary;
 import com.codeborne.selenide.logevents.SimpleReport;
 import com.codeborne.selenide.testng.annotations.Report;
 import org.testng.IInvokedMethod;
 import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestResult;
 import org.testng.internal.ConstructorOrMethod;
 
+import java.util.logging.Logger;
+
 /**
  * Reports for all method of annotated class in the suite.
  * Annotate any test class in your suite with {@code @Listeners({TextReport.class})}
@@ -14,9 +19,15 @@ import org.testng.internal.ConstructorOrMethod;
  * @since Selenide 3.6
  *
  * Use either {@link TextReport} or {@link GlobalTextReport}, never both
+ *
+ * After the suite, a {@link RunSummary} of all reported tests is logged (also when tests run in parallel threads),
+ * unless no Selenide steps have been recorded.
  */
-public class TextReport implements IInvokedMethodListener {
+public class TextReport implements IInvokedMethodListener, ISuiteListener {
+  private static final Logger log = Logger.getLogger(TextReport.class.getName());
+
   protected SimpleReport report = new SimpleReport();
+  protected RunSummary runSummary = new RunSummary();
 
   public static boolean onFailedTest = true;
   public static boolean onSucceededTest = true;
@@ -26,12 +37,18 @@ public class TextReport implements IInvokedMethodListener {
     if (onFailedTest || onSucceededTest) {
       if (isClassAnnotatedWithReport(method)) {
         report.start();
+        if (method.isTestMethod()) {
+          runSummary.testStarted(testResult.getTestClass().getName() + '.' + testResult.getName());
+        }
       }
     }
   }
 
   @Override
   public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+    if (method.isTestMethod()) {
+      runSummary.testFinished();
+    }
     if (testResult.isSuccess() && onSucceededTest || !testResult.isSuccess() && onFailedTest) {
       if (isClassAnnotatedWithReport(method)) {
         report.finish(testResult.getName());
@@ -40,6 +57,17 @@ public class TextReport implements IInvokedMethodListener {
     report.clean();
   }
 
+  @Override
+  public void onStart(ISuite suite) {
+  }
+
+  @Override
+  public void onFinish(ISuite suite) {
+    if (runSummary.hasSteps()) {
+      log.info("Summary of " + suite.getName() + '\n' + runSummary.generateReport());
+    }
+  }
+
   private boolean isClassAnnotatedWithReport(IInvokedMethod method) {
     ConstructorOrMethod consOrMethod = method.getTestMethod().getConstructorOrMethod();
     Report annotation = consOrMethod.getDeclaringClass().getAnnotation(Report.class);
@@ -0,0 +1,283 @@
+/**
+ * Selenide helper functions.
+ * Injected once per document (see com.codeborne.selenide.impl.SelenideJs), so that commands send only short calls like
+ * "__selenide.fire(element, ['change'])" instead of the whole scripts.
+ */
+(function (window, document) {
+  if (window.__selenide) return;
+
+  // Activity of the page since the tracker has been installed (see trackActivity and idleTime)
+  var tracking = false, lastActivity = 0, pendingRequests = 0;
+
+  function activity() {
+    lastActivity = new Date().getTime();
+  }
+
+  function requestFinished() {
+    pendingRequests--;
+    activity();
+  }
+
+  window.__selenide = {
+    fire: function (element, eventNames) {
+      for (var i = 0; i < eventNames.length; i++) {
+        if (document.createEventObject) {
+          element.fireEvent('on' + eventNames[i], document.createEventObject());
+        }
+        else {
+          var evt = document.createEvent('HTMLEvents');
+          evt.initEvent(eventNames[i], true, true);
+          element.dispatchEvent(evt);
+        }
+      }
+    },
+
+    setValue: function (element, text) {
+      if (element.getAttribute('readonly') != undefined) return 'Cannot change value of readonly element';
+      if (element.getAttribute('disabled') != undefined) return 'Cannot change value of disabled element';
+      element.focus();
+      var maxlength = element.getAttribute('maxlength') == null ? -1 : parseInt(element.getAttribute('maxlength'));
+      element.value = maxlength == -1 || text.length <= maxlength ? text : text.substring(0, maxlength);
+      return null;
+    },
+
+    clickAt: function (element, offsetX, offsetY) {
+      element.dispatchEvent(new MouseEvent('click', {
+        'view': window,
+        'bubbles': true,
+        'cancelable': true,
+        'clientX': element.getClientRects()[0].left + offsetX,
+        'clientY': element.getClientRects()[0].top + offsetY
+      }));
+    },
+
+    attributes: function (element) {
+      var s = {};
+      var attrs = element.attributes;
+      for (var i = 0; i < attrs.length; i++) {
+        var a = attrs[i];
+        if (a.name != 'style') {
+          s[a.name] = a.value;
+        }
+      }
+      return s;
+    },
+
+    isImage: function (img) {
+      return img.complete && typeof img.naturalWidth != 'undefined' && img.naturalWidth > 0;
+    },
+
+    cloneFileInput: function (form, inputField) {
+      var fileInput = document.createElement('input');
+      fileInput.setAttribute('type', inputField.getAttribute('type'));
+      fileInput.setAttribute('name', inputField.getAttribute('name'));
+      fileInput.style.width = '1px';
+      fileInput.style.height = '1px';
+      form.appendChild(fileInput);
+      return fileInput;
+    },
+
+    /**
+     * @return all elements found in context by selector of given type ("css" or "xpath")
+     */
+    findAll: function (context, type, selector) {
+      if (type != 'xpath') return Array.prototype.slice.call(context.querySelectorAll(selector));
+      var result = document.evaluate(selector, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), found = [];
+      for (var i = 0; i < result.snapshotLength; i++) {
+        if (result.snapshotItem(i).nodeType == 1) found.push(result.snapshotItem(i));
+      }
+      return found;
+    },
+
+    /**
+     * Finds element by levels [type, selector, index] (see com.codeborne.selenide.impl.ChainResolver)
+     * @return found element, or index of the first level which has not been found
+     */
+    find: function (levels, root) {
+      var context = root || document;
+      for (var i = 0; i < levels.length; i++) {
+        var found = this.findAll(context, levels[i][0], levels[i][1]);
+        if (found.length <= levels[i][2]) return i;
+        context = found[levels[i][2]];
+      }
+      return context;
+    },
+
+    /**
+     * Approximation of WebElement.isDisplayed(): element has size, is not "visibility: hidden",
+     * and neither it nor its ancestors is transparent ("opacity: 0"). Option is visible if its select is visible.
+     * Unlike isDisplayed(), elements clipped by "overflow: hidden" of ancestors or moved out of the page are visible.
+     */
+    isVisible: function (element) {
+      if (element.tagName.toLowerCase() == 'option') {
+        var select = element.parentNode;
+        while (select && select.nodeType == 1 && select.tagName.toLowerCase() != 'select') select = select.parentNode;
+        if (select && select.nodeType == 1) return this.isVisible(select);
+      }
+      if (!(element.offsetWidth > 0 || element.offsetHeight > 0 || element.getClientRects().length > 0)) return false;
+      if (window.getComputedStyle(element).visibility == 'hidden') return false;
+      for (var e = element; e && e.nodeType == 1; e = e.parentNode) {
+        if (window.getComputedStyle(e).opacity == '0') return false;
+      }
+      return true;
+    },
+
+    /**
+     * Checks that element is visible and performs the action
+     * @param args for "setValue": [text, eventNames, versatileSetValue]
+     * @return true if the action has been performed, false if element is not ready for the action
+     */
+    perform: function (element, action, args) {
+      if (!this.isVisible(element)) return false;
+      if (action == 'click') {
+        element.click();
+      }
+      else if (action == 'setValue') {
+        var tag = element.tagName.toLowerCase();
+        if (args[2] && (tag == 'select' || tag == 'input' && element.type == 'radio')) return false;
+        if (this.setValue(element, args[0]) != null) return false;
+        this.fire(element, args[1]);
+      }
+      else {
+        return false;
+      }
+      return true;
+    },
+
+    /**
+     * Finds element and performs the action (see com.codeborne.selenide.impl.FusedAction)
+     * @return true if the action has been performed, false if element is not found or not ready for the action
+     */
+    act: function (levels, root, action, args) {
+      var element = this.find(levels, root);
+      return typeof element != 'number' && this.perform(element, action, args);
+    },
+
+    /**
+     * Performs actions [element, levels, root, action, args] one by one (see com.codeborne.selenide.impl.CommandsBatch).
+     * If element is null, it's found by levels (see find).
+     * @return index of the first action which has not been performed, or null if all actions have been performed
+     */
+    batch: function (actions) {
+      for (var i = 0; i < actions.length; i++) {
+        try {
+          var element = actions[i][0] || this.find(actions[i][1], actions[i][2]);
+          if (typeof element == 'number' || !this.perform(element, actions[i][3], actions[i][4])) return i;
+        }
+        catch (error) {
+          return i;
+        }
+      }
+      return null;
+    },
+
+    /**
+     * Sets values of form fields found by selectors (see com.codeborne.selenide.commands.FillForm)
+     * @return failures by selector
+     */
+    fillForm: function (form, selectors, values, eventNames) {
+      var failures = {};
+      for (var i = 0; i < selectors.length; i++) {
+        var elements;
+        try {
+          elements = form.querySelectorAll(selectors[i]);
+        }
+        catch (invalidSelector) {
+          failures[selectors[i]] = 'Invalid selector';
+          continue;
+        }
+        var failure = elements.length == 0 ? 'Element not found' : this.fillField(elements, values[i], eventNames);
+        if (failure != null) {
+          failures[selectors[i]] = failure;
+        }
+      }
+      return failures;
+    },
+
+    /**
+     * Sets value of form field like SetValue command with Configuration.versatileSetValue does:
+     * option of select and radio button (among all found elements) are selected by value.
+     * @return failure description, or null if the value has been set
+     */
+    fillField: function (elements, text, eventNames) {
+      var element = elements[0], tag = element.tagName.toLowerCase(), type = (element.getAttribute('type') || '').toLowerCase();
+      if (tag == 'input' && type == 'checkbox') return 'Cannot set value of checkbox, use setSelected() instead';
+      if (tag == 'input' && type == 'radio') {
+        for (var i = 0; i < elements.length; i++) {
+          if (elements[i].getAttribute('value') != text) continue;
+          if (elements[i].getAttribute('readonly') != undefined) return 'Cannot select readonly radio button';
+          if (elements[i].getAttribute('disabled') != undefined) return 'Cannot select disabled radio button';
+          elements[i].click();
+          return null;
+        }
+        return 'Radio button with value "' + text + '" not found';
+      }
+      if (tag == 'select') {
+        if (element.getAttribute('disabled') != undefined) return 'Cannot change value of disabled element';
+        for (var j = 0; j < element.options.length; j++) {
+          if (element.options[j].value != text) continue;
+          element.options[j].selected = true;
+          this.fire(element, ['change']);
+          return null;
+        }
+        return 'Option with value "' + text + '" not found';
+      }
+      var failure = this.setValue(element, text);
+      if (failure == null) {
+        this.fire(element, eventNames);
+      }
+      return failure;
+    },
+
+    /**
+     * Starts tracking DOM changes and XHR/fetch requests of the page (only if Configuration.idlePageTimeout is set,
+     * because it changes the page: XMLHttpRequest and fetch are wrapped).
+     * Requests started before this call are not tracked.
+     * @return true if tracking has just been started, false if it was already running
+     */
+    trackActivity: function () {
+      if (tracking) return false;
+      tracking = true;
+      activity();
+
+      if (window.MutationObserver) {
+        new MutationObserver(activity).observe(document, {childList: true, attributes: true, characterData: true, subtree: true});
+      }
+      if (window.XMLHttpRequest) {
+        var send = XMLHttpRequest.prototype.send;
+        XMLHttpRequest.prototype.send = function () {
+          pendingRequests++;
+          activity();
+          this.addEventListener('loadend', requestFinished);
+          return send.apply(this, arguments);
+        };
+      }
+      if (window.fetch) {
+        var fetch = window.fetch;
+        window.fetch = function () {
+          pendingRequests++;
+          activity();
+          var response = fetch.apply(this, arguments);
+          response.then(requestFinished, requestFinished);
+          return response;
+        };
+      }
+      return true;
+    },
+
+    /**
+     * @return number of milliseconds since the last DOM change or request, or 0 if the page is busy
+     * (still loading, waiting for XHR/fetch requests or running animations).
+     * The page is considered busy until tracking has been running for the whole idle period.
+     */
+    idleTime: function () {
+      if (this.trackActivity()) return 0;
+      if (document.readyState != 'complete' || pendingRequests > 0) return 0;
+      var animations = document.getAnimations ? document.getAnimations() : [];
+      for (var i = 0; i < animations.length; i++) {
+        if (animations[i].playState == 'running') return 0;
+      }
+      return new Date().getTime() - lastActivity;
+    }
+  };
+})(window, document);
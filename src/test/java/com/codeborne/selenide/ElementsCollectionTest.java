@@ -1,5 +1,7 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.collections.ListSize;
+import com.codeborne.selenide.impl.CollectionQuery;
 import com.codeborne.selenide.impl.SelenideElementIterator;
 import com.codeborne.selenide.impl.SelenideElementListIterator;
 import com.codeborne.selenide.impl.WebElementsCollection;
@@ -17,6 +19,8 @@ import java.util.List;
 import java.util.ListIterator;
 
 import static com.codeborne.selenide.CollectionCondition.size;
+import static com.codeborne.selenide.CollectionCondition.sizeGreaterThan;
+import static com.codeborne.selenide.CollectionCondition.sizeLessThan;
 import static com.codeborne.selenide.Configuration.browser;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
@@ -69,6 +73,17 @@ public class ElementsCollectionTest {
     collection.shouldBe(CollectionCondition.size(2));
   }
 
+  @Test
+  public void checksAllConditionsAgainstElementsFetchedOnce() {
+    ElementsCollection collection = spy(new ElementsCollection(source));
+    when(source.getActualElements()).thenReturn(asList(element1, element2));
+
+    collection.shouldHave(size(2), sizeGreaterThan(1), sizeLessThan(3));
+
+    verify(source, times(1)).getActualElements();
+    verify(collection, never()).sleep(anyLong());
+  }
+
   @Test(expected = Error.class)
   public void testShouldWithErrorThrown() {
     ElementsCollection collection = new ElementsCollection(source);
@@ -281,6 +296,31 @@ public class ElementsCollectionTest {
     verify(collection, times(2)).sleep(anyLong());
   }
 
+  @Test
+  public void onlyBuiltInSizeConditionsAreCheckedByCountingElementsInBrowser() {
+    CollectionQuery query = CollectionQuery.instance;
+    CollectionQuery.instance = mock(CollectionQuery.class);
+    try {
+      when(CollectionQuery.instance.count(source)).thenReturn(2);
+      ElementsCollection collection = new ElementsCollection(source);
+
+      collection.shouldHave(size(2));
+      verify(source, never()).getActualElements();
+
+      when(source.getActualElements()).thenReturn(asList(element1, element2, element3));
+      collection.shouldHave(new ListSize(2) {
+        @Override
+        public boolean apply(List<WebElement> elements) {
+          return elements.size() > expectedSize;
+        }
+      });
+      verify(source).getActualElements();
+    }
+    finally {
+      CollectionQuery.instance = query;
+    }
+  }
+
   @Test
   public void toStringFetchedCollectionFromWebdriverIfNotFetchedYet() {
     ElementsCollection collection = new ElementsCollection(source);
@@ -0,0 +1,82 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class CommandsTest {
+  Commands commands = new Commands();
+
+  @After
+  public void tearDown() {
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void hasDefaultCommands() {
+    assertTrue(commands.get("click") instanceof Click);
+    assertNull(commands.get("tripleClick"));
+  }
+
+  @Test
+  public void addedCommandIsVisibleInAllThreads() throws InterruptedException {
+    Command<?> tripleClick = mock(Command.class);
+    commands.add("tripleClick", tripleClick);
+
+    Command<?>[] found = new Command<?>[1];
+    Thread anotherThread = new Thread(() -> found[0] = commands.get("tripleClick"));
+    anotherThread.start();
+    anotherThread.join();
+
+    assertSame(tripleClick, found[0]);
+  }
+
+  @Test
+  public void commandAddedForCurrentBrowserOverridesGlobalOneOnlyForThisBrowser() throws InterruptedException {
+    WebDriver browser = mock(WebDriver.class);
+    WebDriverRunner.setWebDriver(browser);
+    Command<?> myClick = mock(Command.class);
+    commands.addForCurrentBrowser("click", myClick);
+
+    Command<?>[] found = new Command<?>[2];
+    Thread anotherThread = new Thread(() -> {
+      found[0] = commands.get("click");
+      WebDriverRunner.setWebDriver(browser);
+      found[1] = commands.get("click");
+    });
+    anotherThread.start();
+    anotherThread.join();
+
+    assertSame(myClick, commands.get("click"));
+    assertTrue(found[0] instanceof Click);
+    assertSame(myClick, found[1]);
+
+    commands.resetCurrentBrowser();
+    assertTrue(commands.get("click") instanceof Click);
+  }
+
+  @Test
+  public void resetDefaultsRemovesAddedCommands() {
+    commands.add("tripleClick", mock(Command.class));
+    commands.add("click", mock(Command.class));
+
+    commands.resetDefaults();
+
+    assertNull(commands.get("tripleClick"));
+    assertNotNull(commands.get("click"));
+    assertTrue(commands.get("click") instanceof Click);
+  }
+
+  @Test
+  public void instanceIsCreatedOnce() {
+    assertSame(Commands.getInstance(), Commands.getInstance());
+  }
+}
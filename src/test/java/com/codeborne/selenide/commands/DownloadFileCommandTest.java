@@ -0,0 +1,67 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.impl.DownloadFileWithProxyServer;
+import com.codeborne.selenide.impl.WebDriverContainer;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.codeborne.selenide.Configuration.FileDownloadMode.PROXY;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DownloadFileCommandTest {
+  private final WebDriverContainer originalContainer = WebDriverRunner.webdriverContainer;
+  private final Configuration.FileDownloadMode originalMode = Configuration.fileDownload;
+
+  private SelenideElement proxy = mock(SelenideElement.class);
+  private WebElementSource linkWithHref = mock(WebElementSource.class);
+  private WebElement link = mock(WebElement.class);
+  private SelenideProxyServer proxyServer = mock(SelenideProxyServer.class);
+  private DownloadFile command = new DownloadFile();
+
+  @Before
+  public void setUp() {
+    WebDriverRunner.webdriverContainer = mock(WebDriverContainer.class);
+    command.downloadFileWithProxyServer = mock(DownloadFileWithProxyServer.class);
+    when(linkWithHref.findAndAssertElementIsVisible()).thenReturn(link);
+    Configuration.fileDownload = PROXY;
+  }
+
+  @After
+  public void tearDown() {
+    WebDriverRunner.webdriverContainer = originalContainer;
+    Configuration.fileDownload = originalMode;
+  }
+
+  @Test
+  public void waitsForSeveralFilesViaProxyServer() throws IOException {
+    when(WebDriverRunner.webdriverContainer.getProxyServer()).thenReturn(proxyServer);
+    Predicate<File> pdfOnly = file -> file.getName().endsWith(".pdf");
+    List<File> files = singletonList(new File("report.pdf"));
+    when(command.downloadFileWithProxyServer.download(linkWithHref, link, proxyServer, 2, pdfOnly)).thenReturn(files);
+
+    assertEquals(files, command.execute(proxy, linkWithHref, new Object[]{2, pdfOnly}));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void cannotWaitForSeveralFilesWithoutProxyServer() throws IOException {
+    when(WebDriverRunner.webdriverContainer.getProxyServer()).thenReturn(null);
+    Predicate<File> anyFile = file -> true;
+
+    command.execute(proxy, linkWithHref, new Object[]{2, anyFile});
+  }
+}
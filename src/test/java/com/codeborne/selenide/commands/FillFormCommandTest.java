@@ -0,0 +1,68 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FillFormCommandTest {
+  private RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  private SelenideElement proxy = mock(SelenideElement.class);
+  private WebElementSource locator = mock(WebElementSource.class);
+  private WebElement form = mock(WebElement.class);
+  private FillForm fillForm = new FillForm();
+
+  @Before
+  public void setUp() {
+    WebDriverRunner.setWebDriver(webdriver);
+    when(locator.findAndAssertElementIsVisible()).thenReturn(form);
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.setValueChangeEvent = true;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void fillsAllFieldsInSingleJavaScriptCall() {
+    Configuration.setValueChangeEvent = false;
+    when(webdriver.executeScript(anyString(), eq("fillForm"), any())).thenReturn(ImmutableMap.of());
+
+    Map<String, String> failures = fillForm.execute(proxy, locator,
+        new Object[]{ImmutableMap.of("#username", "john", "#password", "secret")});
+
+    assertTrue(failures.isEmpty());
+    verify(webdriver).executeScript(anyString(), eq("fillForm"), eq(asList(form, asList("#username", "#password"),
+        asList("john", "secret"), asList("keydown", "keypress", "input", "keyup"))));
+  }
+
+  @Test
+  public void returnsFieldsThatCouldNotBeFilled() {
+    when(webdriver.executeScript(anyString(), eq("fillForm"), any()))
+        .thenReturn(ImmutableMap.of("#username", "Cannot change value of readonly element"));
+
+    Map<String, String> failures = fillForm.execute(proxy, locator,
+        new Object[]{ImmutableMap.of("#username", "john", "#password", "secret")});
+
+    assertEquals(ImmutableMap.of("#username", "Cannot change value of readonly element"), failures);
+  }
+}
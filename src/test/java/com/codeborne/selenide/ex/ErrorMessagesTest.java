@@ -51,6 +51,13 @@ public class ErrorMessagesTest {
     assertEquals("\nTimeout: 4 s.", ErrorMessages.timeout(4000));
   }
 
+  @Test
+  public void explainsWhyWaitingHasBeenStoppedBeforeTimeout() {
+    assertEquals("", ErrorMessages.pageIdle(0));
+    assertEquals("\nStopped waiting: page has been idle for 1200 ms., condition cannot be satisfied anymore",
+        ErrorMessages.pageIdle(1200));
+  }
+
   @Test
   public void convertsScreenshotFileNameToCIUrl() {
     Configuration.reportsUrl = "http://ci.mycompany.com/job/666/artifact/";
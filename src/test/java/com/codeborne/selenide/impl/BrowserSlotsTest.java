@@ -0,0 +1,95 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BrowserSlotsTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  BrowserSlots slots = new BrowserSlots();
+
+  @Before
+  public void setUp() throws IOException {
+    Configuration.browserSlotsFolder = folder.newFolder().getAbsolutePath();
+    Configuration.maxBrowsersPerHost = 1;
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.maxBrowsersPerHost = 0;
+  }
+
+  @Test
+  public void doesNotLimitBrowsersByDefault() {
+    Configuration.maxBrowsersPerHost = 0;
+    assertNull(slots.acquire());
+  }
+
+  @Test
+  public void waitsUntilBrowserIsClosed() throws InterruptedException {
+    WebDriver firstBrowser = mock(WebDriver.class);
+    slots.assign(slots.acquire(), firstBrowser);
+
+    AtomicReference<BrowserSlots.Slot> secondSlot = new AtomicReference<>();
+    Thread secondThread = new Thread(() -> secondSlot.set(slots.acquire()));
+    secondThread.start();
+    secondThread.join(500);
+
+    assertNull(secondSlot.get());
+    assertEquals(1, slots.getWaitingRequests());
+
+    slots.release(firstBrowser);
+    secondThread.join(5000);
+
+    assertNotNull(secondSlot.get());
+    assertEquals(0, slots.getWaitingRequests());
+    assertEquals(2, slots.getAcquiredSlots());
+    assertTrue(slots.getMaxWaitMs() >= 500);
+    slots.release(secondSlot.get());
+  }
+
+  @Test
+  public void releasesSlotOfBrowserClosedByQuit() {
+    RemoteWebDriver firstBrowser = mock(RemoteWebDriver.class);
+    when(firstBrowser.getSessionId()).thenReturn(new SessionId("123"));
+    slots.assign(slots.acquire(), firstBrowser);
+
+    when(firstBrowser.getSessionId()).thenReturn(null);
+    BrowserSlots.Slot secondSlot = slots.acquire();
+
+    assertEquals("slot-0.lock", secondSlot.toString());
+    slots.release(secondSlot);
+    slots.release(firstBrowser);
+  }
+
+  @Test
+  public void givesEverySlotToOneBrowser() {
+    Configuration.maxBrowsersPerHost = 2;
+
+    BrowserSlots.Slot first = slots.acquire();
+    BrowserSlots.Slot second = slots.acquire();
+
+    assertEquals("slot-0.lock", first.toString());
+    assertEquals("slot-1.lock", second.toString());
+    slots.release(first);
+    slots.release(second);
+  }
+}
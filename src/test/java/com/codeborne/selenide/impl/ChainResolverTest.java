@@ -0,0 +1,85 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.lang.reflect.Proxy;
+
+import static com.codeborne.selenide.Selectors.byText;
+import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.impl.SelenideJs.jsCodeToCallHelper;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ChainResolverTest {
+  RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  WebElement cell = mock(WebElement.class);
+
+  @Before
+  public void setUp() {
+    WebDriverRunner.setWebDriver(webdriver);
+  }
+
+  @After
+  public void tearDown() {
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void resolvesWholeChainInSingleJavaScriptCall() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), eq("find"), any())).thenReturn(cell);
+
+    SelenideElement element = $("#grid").$$(".row").get(5).find(By.name("price"), 2);
+
+    assertSame(cell, ChainResolver.instance.resolve(finderOf(element)));
+    verify(webdriver).executeScript(jsCodeToCallHelper, "find", asList(asList(
+        asList("css", "#grid", 0),
+        asList("css", ".row", 5),
+        asList("css", "*[name=\"price\"]", 2)
+    ), null));
+  }
+
+  @Test
+  public void reportsMissingLevelOfChain() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), eq("find"), any())).thenReturn(1L);
+
+    SelenideElement element = $("#grid").$$(".row").get(5).$(".cell");
+
+    try {
+      ChainResolver.instance.resolve(finderOf(element));
+      fail("expected NoSuchElementException");
+    }
+    catch (NoSuchElementException expected) {
+      assertEquals("Cannot locate an element #grid/.row[5]", expected.getMessage().split("\n")[0]);
+    }
+  }
+
+  @Test
+  public void cannotResolveChainWithCustomSelectors() {
+    SelenideElement element = $(byText("Grid")).$(".cell");
+
+    assertNull(ChainResolver.instance.resolve(finderOf(element)));
+    verify(webdriver, never()).executeScript(anyString(), any(), any());
+  }
+
+  private ElementFinder finderOf(SelenideElement element) {
+    return (ElementFinder) ((SelenideElementProxy) Proxy.getInvocationHandler(element)).getWebElementSource();
+  }
+}
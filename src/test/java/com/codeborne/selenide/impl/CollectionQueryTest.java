@@ -0,0 +1,143 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.not;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static com.codeborne.selenide.Selectors.byText;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CollectionQueryTest {
+  RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  WebElement row1 = mock(WebElement.class);
+  WebElement row2 = mock(WebElement.class);
+  BySelectorCollection rows = new BySelectorCollection(By.cssSelector(".row"));
+
+  @Before
+  public void setUp() {
+    Configuration.filterCollectionsInBrowser = true;
+    WebDriverRunner.setWebDriver(webdriver);
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.filterCollectionsInBrowser = false;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void filtersWholeChainInSingleJavaScriptCall() {
+    when(webdriver.executeScript(anyString(), any(), any(), any())).thenReturn(asList(row1, row2));
+
+    WebElementsCollection collection = new HeadOfCollection(
+        new FilteringCollection(new FilteringCollection(rows, visible), not(cssClass("x"))), 5);
+
+    assertEquals(asList(row1, row2), collection.getActualElements());
+
+    String js = capturedScript();
+    assertThat(js, containsString("found = found.filter(function(e) {return __selenide.isVisible(e);});"));
+    assertThat(js, containsString("found = found.filter(function(e) {return !((e.getAttribute('class') || '')" +
+        ".split(' ').indexOf('x') >= 0);});"));
+    assertThat(js, containsString("found = found.slice(0, 5);"));
+    verify(row1, never()).isDisplayed();
+  }
+
+  @Test
+  public void findsFirstMatchingElement() {
+    when(webdriver.executeScript(anyString(), any(), any(), any())).thenReturn(singletonList(row2));
+
+    List<WebElement> found = CollectionQuery.instance.findFirst(new TailOfCollection(rows, 3), cssClass("active"));
+
+    assertEquals(singletonList(row2), found);
+    String js = capturedScript();
+    assertThat(js, containsString("found = found.slice(Math.max(found.length - 3, 0));"));
+    assertThat(js, containsString("indexOf('active') >= 0;});\nfound = found.slice(0, 1);"));
+  }
+
+  @Test
+  public void fallsBackToWebdriverForConditionsThatCannotBeCheckedByJavaScript() {
+    assertNull(CollectionQuery.instance.find(new FilteringCollection(rows, text("hello"))));
+    assertNull(CollectionQuery.instance.findFirst(rows, text("hello")));
+  }
+
+  @Test
+  public void fallsBackToWebdriverForUnsupportedSelectors() {
+    BySelectorCollection byText = new BySelectorCollection(byText("hello"));
+    assertNull(CollectionQuery.instance.find(new FilteringCollection(byText, visible)));
+  }
+
+  @Test
+  public void isDisabledByDefault() {
+    Configuration.filterCollectionsInBrowser = false;
+    assertNull(CollectionQuery.instance.find(new FilteringCollection(rows, visible)));
+  }
+
+  @Test
+  public void doesNotCountElementsIfFilteringInBrowserIsDisabled() {
+    Configuration.filterCollectionsInBrowser = false;
+
+    assertNull(CollectionQuery.instance.count(rows));
+    verify(webdriver, never()).executeScript(anyString(), any());
+  }
+
+  @Test
+  public void countsElementsFoundBySelector() {
+    when(webdriver.executeScript(anyString(), any(), any(), any())).thenReturn(42L);
+
+    assertEquals(Integer.valueOf(42), CollectionQuery.instance.count(rows));
+    assertThat(capturedScript(), containsString("return found.length;"));
+  }
+
+  @Test
+  public void countsFilteredElements() {
+    when(webdriver.executeScript(anyString(), any(), any(), any())).thenReturn(2L);
+
+    assertEquals(Integer.valueOf(2), CollectionQuery.instance.count(new FilteringCollection(rows, visible)));
+    String js = capturedScript();
+    assertThat(js, containsString("found = found.filter(function(e) {return __selenide.isVisible(e);});"));
+    assertThat(js, containsString("return found.length;"));
+  }
+
+  @Test
+  public void escapesStringsInConditions() {
+    Condition condition = Condition.attribute("title", "it's \\ \"new\"\n");
+    assertEquals("(e.getAttribute('title') || '') == 'it\\'s \\\\ \"new\"\\n'", condition.toJavaScript());
+  }
+
+  @Test
+  public void checksEnabledLikeWebdriverDoes() {
+    assertEquals("!e.matches(':disabled')", Condition.enabled.toJavaScript());
+    assertEquals("e.matches(':disabled')", Condition.disabled.toJavaScript());
+  }
+
+  private String capturedScript() {
+    ArgumentCaptor<String> js = ArgumentCaptor.forClass(String.class);
+    verify(webdriver).executeScript(js.capture(), eq(null), eq("css"), eq(".row"));
+    return js.getValue();
+  }
+}
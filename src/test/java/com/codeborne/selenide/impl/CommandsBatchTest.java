@@ -0,0 +1,204 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.logevents.EventsCollector;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Selectors.byText;
+import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.Selenide.batch;
+import static com.codeborne.selenide.Selenide.executeJavaScript;
+import static com.codeborne.selenide.impl.SelenideJs.jsCodeToCallHelper;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CommandsBatchTest {
+  RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  WebElement username = mock(WebElement.class);
+  WebElement login = mock(WebElement.class);
+
+  @Before
+  public void setUp() {
+    Configuration.fastSetValue = true;
+    Configuration.clickViaJs = true;
+    Configuration.setValueChangeEvent = false;
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.findElement(By.cssSelector("#username"))).thenReturn(username);
+    when(webdriver.findElement(By.cssSelector("#login"))).thenReturn(login);
+    when(username.isDisplayed()).thenReturn(true);
+    when(login.isDisplayed()).thenReturn(true);
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.fastSetValue = false;
+    Configuration.clickViaJs = false;
+    Configuration.setValueChangeEvent = true;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void executesQueuedCommandsInSingleJavaScriptCall() {
+    batch(() -> {
+      $("#username").setValue("john");
+      $("#login").click();
+    });
+
+    ArgumentCaptor<Object> actions = ArgumentCaptor.forClass(Object.class);
+    verify(webdriver).executeScript(eq(jsCodeToCallHelper), eq("batch"), actions.capture());
+    List<?> queued = queued(actions.getValue());
+    assertEquals(2, queued.size());
+    assertEquals(asList(null, singletonList(asList("css", "#username", 0)), null,
+        "setValue", asList("john", asList("keydown", "keypress", "input", "keyup"), false)), queued.get(0));
+    assertEquals(asList(null, singletonList(asList("css", "#login", 0)), null, "click", emptyList()), queued.get(1));
+    verify(webdriver, never()).findElement(any());
+    verify(login, never()).click();
+  }
+
+  @Test
+  public void findsElementsBeforeBatchIfTheyCannotBeFoundByJavaScript() {
+    when(webdriver.findElement(byText("Log in"))).thenReturn(login);
+
+    batch(() -> $(byText("Log in")).click());
+
+    ArgumentCaptor<Object> actions = ArgumentCaptor.forClass(Object.class);
+    verify(webdriver).executeScript(eq(jsCodeToCallHelper), eq("batch"), actions.capture());
+    assertEquals(singletonList(asList(login, null, null, "click", emptyList())), queued(actions.getValue()));
+  }
+
+  @Test
+  public void otherAccessToBrowserExecutesQueuedCommandsFirst() {
+    batch(() -> {
+      $("#login").click();
+      executeJavaScript("return document.title");
+    });
+
+    InOrder inOrder = inOrder(webdriver);
+    inOrder.verify(webdriver).executeScript(eq(jsCodeToCallHelper), eq("batch"), any());
+    inOrder.verify(webdriver).executeScript("return document.title");
+  }
+
+  @Test
+  public void nonBatchableCommandExecutesQueuedCommandsFirst() {
+    when(username.getText()).thenReturn("john");
+
+    batch(() -> {
+      $("#login").click();
+      assertEquals("john", $("#username").getText());
+    });
+
+    InOrder inOrder = inOrder(webdriver, username);
+    inOrder.verify(webdriver).executeScript(eq(jsCodeToCallHelper), eq("batch"), any());
+    inOrder.verify(username).getText();
+  }
+
+  @Test
+  public void commandRejectedByBrowserIsExecutedAsUsual() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), eq("batch"), any())).thenReturn(0L, null);
+
+    batch(() -> {
+      $("#login").click();
+      $("#username").setValue("john");
+    });
+
+    verify(webdriver).executeScript("arguments[0].click()", login);
+    ArgumentCaptor<Object> actions = ArgumentCaptor.forClass(Object.class);
+    verify(webdriver, times(2)).executeScript(eq(jsCodeToCallHelper), eq("batch"), actions.capture());
+    assertEquals(1, queued(actions.getAllValues().get(1)).size());
+  }
+
+  @Test
+  public void commandIsExecutedAsUsualIfBatchFails() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), eq("batch"), any()))
+        .thenThrow(new StaleElementReferenceException("login is stale"))
+        .thenReturn(null);
+
+    batch(() -> {
+      $("#login").click();
+      $("#username").setValue("john");
+    });
+
+    verify(webdriver).executeScript("arguments[0].click()", login);
+    ArgumentCaptor<Object> actions = ArgumentCaptor.forClass(Object.class);
+    verify(webdriver, times(2)).executeScript(eq(jsCodeToCallHelper), eq("batch"), actions.capture());
+    assertEquals(1, queued(actions.getAllValues().get(1)).size());
+  }
+
+  @Test
+  public void commandsExecutedByBrowserAreNotRepeatedIfBatchFails() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), eq("batch"), any()))
+        .thenThrow(new WebDriverException("page has been reloaded"));
+
+    try {
+      batch(() -> {
+        $("#login").click();
+        $("#username").setValue("john");
+      });
+      fail("expected WebDriverException");
+    }
+    catch (WebDriverException expected) {
+      assertEquals("page has been reloaded", expected.getMessage().split("\n")[0]);
+    }
+
+    verify(webdriver, never()).executeScript("arguments[0].click()", login);
+    verify(webdriver).executeScript(eq(jsCodeToCallHelper), eq("batch"), any());
+  }
+
+  @Test
+  public void logsOneStepPerCommand() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), eq("batch"), any())).thenReturn(0L, null);
+    EventsCollector events = new EventsCollector();
+    SelenideLogger.addListener("batch", events);
+    try {
+      batch(() -> {
+        $("#login").click();
+        $("#username").setValue("john");
+      });
+    }
+    finally {
+      SelenideLogger.removeListener("batch");
+    }
+
+    assertEquals(2, events.events().size());
+    assertEquals("click()", events.events().get(0).getSubject());
+    assertEquals("set value(john)", events.events().get(1).getSubject());
+  }
+
+  @Test
+  public void commandsAreNotBatchedIfTheyRequireNativeEvents() {
+    Configuration.clickViaJs = false;
+
+    batch(() -> $("#login").click());
+
+    verify(login).click();
+    verify(webdriver, never()).executeScript(eq(jsCodeToCallHelper), eq("batch"), any());
+  }
+
+  private List<?> queued(Object helperArguments) {
+    return (List<?>) ((List<?>) helperArguments).get(0);
+  }
+}
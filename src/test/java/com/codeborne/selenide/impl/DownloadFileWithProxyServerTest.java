@@ -1,5 +1,6 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.proxy.FileDownloadFilter;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import com.codeborne.selenide.rules.MockWebdriverContainer;
@@ -9,8 +10,6 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
-import org.mockito.invocation.InvocationOnMock;
-import org.mockito.stubbing.Answer;
 import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.TargetLocator;
@@ -19,11 +18,16 @@ import org.openqa.selenium.WebElement;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
 
 import static com.codeborne.selenide.WebDriverRunner.webdriverContainer;
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 public class DownloadFileWithProxyServerTest {
@@ -42,8 +46,6 @@ public class DownloadFileWithProxyServerTest {
 
   @Before
   public void setUp() {
-    command.waiter = spy(new Waiter());
-    doNothing().when(command.waiter).sleep(anyLong());
     when(webdriverContainer.getWebDriver()).thenReturn(webdriver);
     when(webdriver.switchTo()).thenReturn(mock(TargetLocator.class));
 
@@ -65,13 +67,19 @@ public class DownloadFileWithProxyServerTest {
   }
 
   private void emulateServerResponseWithFiles(final File... files) {
-    doAnswer(new Answer() {
-      @Override
-      public Object answer(final InvocationOnMock invocation) throws Throwable {
-        filter.getDownloadedFiles().addAll(asList(files));
-        return null;
-      }
-    }).when(link).click();
+    doReturn(asList(files)).when(filter).waitForDownloads(anyInt(), any(), anyLong());
+  }
+
+  @Test
+  public void canWaitForSeveralFiles() throws IOException {
+    emulateServerResponseWithFiles(new File("report.pdf"), new File("report.xls"));
+    Predicate<File> anyFile = file -> true;
+
+    List<File> files = command.download(linkWithHref, link, proxy, 2, anyFile);
+    assertThat(files.size(), is(2));
+
+    verify(link).click();
+    verify(filter).waitForDownloads(2, anyFile, Configuration.timeout);
   }
 
   @Test
@@ -120,4 +128,13 @@ public class DownloadFileWithProxyServerTest {
     thrown.expectMessage("Failed to download file <a href='report.pdf'>report</a>");
     command.download(linkWithHref, link, proxy);
   }
+
+  @Test
+  public void throwsFileNotFoundExceptionIfNotAllFilesHaveBeenDownloadedAfterClick() throws IOException {
+    emulateServerResponseWithFiles(new File("report.pdf"));
+
+    thrown.expect(FileNotFoundException.class);
+    thrown.expectMessage("Downloaded 1 of 2 files <a href='report.pdf'>report</a>");
+    command.download(linkWithHref, link, proxy, 2, file -> true);
+  }
 }
@@ -1,14 +1,132 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.ex.ElementShould;
+import org.junit.After;
 import org.junit.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ElementFinderTest {
+  RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  WebElement element = mock(WebElement.class);
+
+  @After
+  public void tearDown() {
+    Configuration.cacheElements = false;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void findsElementForEveryCommandByDefault() {
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.findElement(By.id("app"))).thenReturn(element);
+    ElementFinder finder = new ElementFinder(null, By.id("app"), 0);
+
+    finder.getWebElement();
+    finder.getWebElement();
+
+    verify(webdriver, times(2)).findElement(By.id("app"));
+  }
+
+  @Test
+  public void reusesFoundElementUntilPageChanges() {
+    Configuration.cacheElements = true;
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.findElement(By.id("app"))).thenReturn(element);
+    ElementFinder finder = new ElementFinder(null, By.id("app"), 0);
+
+    assertSame(element, finder.getWebElement());
+    assertSame(element, finder.getWebElement());
+    verify(webdriver, times(1)).findElement(By.id("app"));
+
+    CachedElement.invalidateAll();
+    assertSame(element, finder.getWebElement());
+    verify(webdriver, times(2)).findElement(By.id("app"));
+  }
+
+  @Test
+  public void pageChangeInOtherBrowserDoesNotInvalidateCache() throws InterruptedException {
+    Configuration.cacheElements = true;
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.findElement(By.id("app"))).thenReturn(element);
+    ElementFinder finder = new ElementFinder(null, By.id("app"), 0);
+    finder.getWebElement();
+
+    Thread otherTest = new Thread(() -> {
+      WebDriverRunner.setWebDriver(mock(RemoteWebDriver.class));
+      CachedElement.invalidateAll();
+      WebDriverRunner.closeWebDriver();
+    });
+    otherTest.start();
+    otherTest.join();
+
+    assertSame(element, finder.getWebElement());
+    verify(webdriver, times(1)).findElement(By.id("app"));
+  }
+
+  @Test
+  public void staleElementInvalidatesCache() {
+    Configuration.cacheElements = true;
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.findElement(By.id("app"))).thenReturn(element);
+    ElementFinder finder = new ElementFinder(null, By.id("app"), 0);
+    finder.getWebElement();
+
+    CachedElement.invalidateIfStale(new RuntimeException(new StaleElementReferenceException("gone")));
+    finder.getWebElement();
+
+    verify(webdriver, times(2)).findElement(By.id("app"));
+  }
+
+  @Test
+  public void checksAllConditionsAgainstElementFoundOnce() {
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.findElement(By.id("app"))).thenReturn(element);
+    when(element.isDisplayed()).thenReturn(true);
+    when(element.getAttribute("class")).thenReturn("active");
+    ElementFinder finder = new ElementFinder(null, By.id("app"), 0);
+
+    assertSame(element, finder.checkConditions("be ", null, asList(visible, cssClass("active")), false));
+
+    verify(webdriver, times(1)).findElement(By.id("app"));
+  }
+
+  @Test
+  public void reportsFirstConditionThatIsNotSatisfied() {
+    WebDriverRunner.setWebDriver(webdriver);
+    when(webdriver.findElement(By.id("app"))).thenReturn(element);
+    when(element.isDisplayed()).thenReturn(true);
+    when(element.getAttribute("class")).thenReturn("passive");
+    ElementFinder finder = new ElementFinder(null, By.id("app"), 0);
+
+    try {
+      finder.checkConditions("have ", null, asList(visible, cssClass("active"), cssClass("big")), false);
+      fail("expected ElementShould");
+    }
+    catch (ElementShould expected) {
+      assertThat(expected.getMessage(), startsWith("Element should have css class 'active' {By.id: app}"));
+    }
+    verify(webdriver, times(1)).findElement(By.id("app"));
+  }
+
   @Test
   public void testToStringForFinderByCssSelectors() {
     SelenideElement parent = mock(SelenideElement.class);
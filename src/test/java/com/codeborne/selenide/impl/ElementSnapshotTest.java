@@ -0,0 +1,73 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.internal.Coordinates;
+import org.openqa.selenium.interactions.internal.Locatable;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import static com.codeborne.selenide.Condition.and;
+import static com.codeborne.selenide.Condition.attribute;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ElementSnapshotTest {
+  WebElement element = mock(WebElement.class);
+  ElementSnapshot snapshot = new ElementSnapshot(element);
+
+  @Test
+  public void readsEveryPropertyOnlyOnce() {
+    when(element.isDisplayed()).thenReturn(true);
+    when(element.getText()).thenReturn("Hello world");
+    when(element.getTagName()).thenReturn("h1");
+
+    assertTrue(and("visible with text", visible, text("hello")).apply(snapshot));
+    assertTrue(and("visible with text", visible, text("world")).apply(snapshot));
+    assertEquals("Hello world", snapshot.getText());
+
+    verify(element, times(1)).isDisplayed();
+    verify(element, times(1)).getText();
+    verify(element, times(1)).getTagName();
+  }
+
+  @Test
+  public void remembersMissingAttributes() {
+    when(element.getAttribute("id")).thenReturn("main");
+
+    assertFalse(attribute("data-id").apply(snapshot));
+    assertFalse(attribute("data-id").apply(snapshot));
+    assertTrue(attribute("id", "main").apply(snapshot));
+
+    verify(element, times(1)).getAttribute("data-id");
+    verify(element, times(1)).getAttribute("id");
+  }
+
+  @Test
+  public void delegatesActionsToRealElement() {
+    snapshot.click();
+    snapshot.clear();
+    snapshot.click();
+
+    verify(element, times(2)).click();
+    verify(element).clear();
+    assertSame(element, snapshot.getWrappedElement());
+  }
+
+  @Test
+  public void isLocatableOnlyIfRealElementIs() {
+    RemoteWebElement locatable = mock(RemoteWebElement.class);
+    Coordinates coordinates = mock(Coordinates.class);
+    when(locatable.getCoordinates()).thenReturn(coordinates);
+
+    assertFalse(ElementSnapshot.of(element) instanceof Locatable);
+    assertSame(coordinates, ((Locatable) ElementSnapshot.of(locatable)).getCoordinates());
+  }
+}
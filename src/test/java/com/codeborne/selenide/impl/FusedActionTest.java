@@ -0,0 +1,80 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Selectors.byText;
+import static com.codeborne.selenide.impl.SelenideJs.jsCodeToCallHelper;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FusedActionTest {
+  RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+
+  @Before
+  public void setUp() {
+    Configuration.fusedActions = true;
+    WebDriverRunner.setWebDriver(webdriver);
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.fusedActions = false;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void findsElementAndPerformsActionInSingleCall() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), any(), any())).thenReturn(true);
+
+    ElementFinder input = new ElementFinder(null, By.id("username"), 0);
+    assertTrue(FusedAction.instance.execute(input, "setValue", "john", asList("input", "change")));
+
+    ArgumentCaptor<List> arguments = ArgumentCaptor.forClass(List.class);
+    verify(webdriver).executeScript(eq(jsCodeToCallHelper), eq("act"), arguments.capture());
+    assertEquals(asList(
+        asList(asList("css", "*[id=\"username\"]", 0)),
+        null,
+        "setValue",
+        asList("john", asList("input", "change"))
+    ), arguments.getValue());
+  }
+
+  @Test
+  public void returnsFalseIfElementIsNotReadyForAction() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), any(), any())).thenReturn(false);
+
+    assertFalse(FusedAction.instance.execute(new ElementFinder(null, By.cssSelector("#login"), 0), "click"));
+  }
+
+  @Test
+  public void doesNothingForUnsupportedSelectors() {
+    assertFalse(FusedAction.instance.execute(new ElementFinder(null, byText("Login"), 0), "click"));
+    verify(webdriver, never()).executeScript(anyString(), any());
+  }
+
+  @Test
+  public void isDisabledByDefault() {
+    Configuration.fusedActions = false;
+
+    assertFalse(FusedAction.instance.execute(new ElementFinder(null, By.cssSelector("#login"), 0), "click"));
+    verify(webdriver, never()).executeScript(anyString(), any());
+  }
+}
@@ -0,0 +1,66 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static com.codeborne.selenide.impl.SelenideJs.jsCodeToCallHelper;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IdlePageDetectorTest {
+  RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+
+  @Before
+  public void setUp() {
+    Configuration.idlePageTimeout = 500;
+    WebDriverRunner.setWebDriver(webdriver);
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.idlePageTimeout = 0;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void pageIsIdleIfNothingHasHappenedForGivenTime() {
+    when(webdriver.executeScript(jsCodeToCallHelper, "idleTime", emptyList())).thenReturn(700L);
+
+    assertEquals(700, IdlePageDetector.instance.idleTime(currentTimeMillis() - 1000));
+  }
+
+  @Test
+  public void pageIsBusyIfSomethingHasHappenedRecently() {
+    when(webdriver.executeScript(jsCodeToCallHelper, "idleTime", emptyList())).thenReturn(300L);
+    assertEquals(0, IdlePageDetector.instance.idleTime(currentTimeMillis() - 1000));
+
+    when(webdriver.executeScript(jsCodeToCallHelper, "idleTime", emptyList())).thenReturn(0L);
+    assertEquals(0, IdlePageDetector.instance.idleTime(currentTimeMillis() - 1000));
+  }
+
+  @Test
+  public void doesNotAskBrowserUntilWaitingTakesLongerThanIdlePageTimeout() {
+    assertEquals(0, IdlePageDetector.instance.idleTime(currentTimeMillis() - 100));
+    verify(webdriver, never()).executeScript(anyString(), any());
+  }
+
+  @Test
+  public void isDisabledByDefault() {
+    Configuration.idlePageTimeout = 0;
+
+    assertEquals(0, IdlePageDetector.instance.idleTime(currentTimeMillis() - 10000));
+    verify(webdriver, never()).executeScript(eq(jsCodeToCallHelper), any());
+  }
+}
@@ -0,0 +1,76 @@
+package com.codeborne.selenide.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static com.codeborne.selenide.impl.SelenideJs.NOT_LOADED;
+import static com.codeborne.selenide.impl.SelenideJs.jsCodeToCallHelper;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SelenideJsTest {
+  RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  WebElement element = mock(WebElement.class);
+  SelenideJs js = new SelenideJs();
+
+  @Before
+  public void setUp() {
+    js.helpersSource = "/* selenide.js */";
+  }
+
+  @Test
+  public void callsHelperInSingleCallIfHelpersAreLoaded() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), any(), any())).thenReturn(true);
+
+    Boolean result = js.call(webdriver, "isImage", element);
+
+    assertEquals(true, result);
+    verify(webdriver, times(1)).executeScript(anyString(), any(), any());
+    verify(webdriver).executeScript(jsCodeToCallHelper, "isImage", asList(element));
+  }
+
+  @Test
+  public void injectsHelpersAndCallsHelperInTheSameCall() {
+    when(webdriver.executeScript(eq(jsCodeToCallHelper), any(), any())).thenReturn(NOT_LOADED);
+    when(webdriver.executeScript(eq("/* selenide.js */;\n" + jsCodeToCallHelper), any(), any())).thenReturn(null);
+
+    js.call(webdriver, "fire", element, asList("input", "change"));
+
+    verify(webdriver).executeScript("/* selenide.js */;\n" + jsCodeToCallHelper, "fire",
+        asList(element, asList("input", "change")));
+  }
+
+  @Test
+  public void injectsHelpersForCodeThatUsesThem() {
+    when(webdriver.executeScript(anyString(), any())).thenReturn(NOT_LOADED, true);
+
+    Boolean result = js.execute(webdriver, "return __selenide.isVisible(arguments[0]);", element);
+
+    assertEquals(true, result);
+    ArgumentCaptor<String> scripts = ArgumentCaptor.forClass(String.class);
+    verify(webdriver, times(2)).executeScript(scripts.capture(), eq(element));
+    assertThat(scripts.getAllValues().get(0), containsString("if (typeof __selenide == 'undefined') return"));
+    assertThat(scripts.getAllValues().get(1), startsWith("/* selenide.js */;\n"));
+    assertThat(scripts.getAllValues().get(1), endsWith("return __selenide.isVisible(arguments[0]);"));
+  }
+
+  @Test
+  public void loadsHelpersFromClasspath() {
+    js.helpersSource = null;
+    assertThat(js.getHelpersSource(), containsString("window.__selenide = {"));
+  }
+}
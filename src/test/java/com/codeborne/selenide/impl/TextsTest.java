@@ -3,6 +3,8 @@ package com.codeborne.selenide.impl;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TextsTest {
   @Test
@@ -14,4 +16,34 @@ public class TextsTest {
     assertEquals("a", Html.text.reduceSpaces("  a\n"));
     assertEquals("Bruce Willis", Html.text.reduceSpaces("     Bruce   \n\t   Willis  \n\n\n"));
   }
+
+  @Test
+  public void equalsIgnoresWhitespaceDifferencesAndCase() {
+    assertTrue(Html.text.equals("  Bruce \n\t Willis\u00a0", "bruce willis"));
+    assertTrue(Html.text.equals("", "  "));
+    assertFalse(Html.text.equals("Bruce Willis", "BruceWillis"));
+    assertFalse(Html.text.equals("Bruce Willis", "Bruce Willis Jr"));
+    assertFalse(Html.text.equals("Bruce Willis Jr", "Bruce Willis"));
+    assertTrue(Html.text.equalsCaseSensitive("Bruce   Willis", " Bruce Willis "));
+    assertFalse(Html.text.equalsCaseSensitive("Bruce Willis", "bruce willis"));
+  }
+
+  @Test
+  public void containsIgnoresWhitespaceDifferencesAndCase() {
+    assertTrue(Html.text.contains("Hello,   Bruce \n Willis!", "bruce willis"));
+    assertTrue(Html.text.contains("Hello, Bruce Willis!", " "));
+    assertTrue(Html.text.contains("Hello, Bruce Willis!", ", bruce "));
+    assertTrue(Html.text.contains("aab", "ab"));
+    assertFalse(Html.text.contains("Hello, Bruce Willis!", "BruceWillis"));
+    assertFalse(Html.text.contains("Bruce", "Bruce Willis"));
+    assertFalse(Html.text.contains("Bruce ", "Bruce W"));
+    assertTrue(Html.text.containsCaseSensitive("Hello, Bruce\tWillis!", "Bruce Willis"));
+    assertFalse(Html.text.containsCaseSensitive("Hello, Bruce Willis!", "bruce willis"));
+  }
+
+  @Test
+  public void matchesUsesPrecompiledPattern() {
+    assertTrue(Html.text.matches("Hello,\nBruce Willis!", Html.text.pattern("Bruce\\s+Will")));
+    assertFalse(Html.text.matches("Hello, Bruce Willis!", Html.text.pattern("^Bruce")));
+  }
 }
@@ -157,4 +157,35 @@ public class WebDriverThreadLocalContainerTest {
     assertThat(capturedLog, containsString(String.format("Close proxy server: %s ->", currentThreadId)));
   }
 
+  @Test
+  public void detachedWebDriverCanBeAttachedToAnotherThread() throws InterruptedException {
+    WebDriver webdriver = mock(WebDriver.class);
+    container.setWebDriver(webdriver);
+
+    container.detachWebDriver();
+    assertThat(container.hasWebDriverStarted(), is(false));
+
+    WebDriver[] attached = new WebDriver[1];
+    Thread anotherThread = new Thread(() -> {
+      container.attachWebDriver(webdriver, null);
+      attached[0] = container.getWebDriver();
+      container.detachWebDriver();
+    });
+    anotherThread.start();
+    anotherThread.join();
+
+    assertSame(webdriver, attached[0]);
+    verify(webdriver, never()).quit();
+  }
+
+  @Test
+  public void closesDetachedWebDriver() {
+    Configuration.holdBrowserOpen = false;
+    WebDriver webdriver = mock(WebDriver.class);
+
+    container.closeWebDriver(webdriver, null);
+
+    verify(webdriver).quit();
+    assertThat(getTestCapturedLog(), containsString("Close webdriver: detached -> " + webdriver));
+  }
 }
@@ -0,0 +1,65 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static com.codeborne.selenide.impl.WebElementSelector.jsCodeToFindBySizzle;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WebElementSelectorTest {
+  RemoteWebDriver webdriver = mock(RemoteWebDriver.class);
+  WebElement element = mock(WebElement.class);
+  WebElementSelector selector = new WebElementSelector();
+
+  @Before
+  public void setUp() {
+    Configuration.selectorMode = Configuration.SelectorMode.Sizzle;
+    WebDriverRunner.setWebDriver(webdriver);
+    selector.sizzleSource = "/* sizzle */";
+  }
+
+  @After
+  public void tearDown() {
+    Configuration.selectorMode = Configuration.SelectorMode.CSS;
+    WebDriverRunner.closeWebDriver();
+  }
+
+  @Test
+  public void findsElementsBySizzleInSingleCallIfSizzleIsLoaded() {
+    when(webdriver.executeScript(eq(jsCodeToFindBySizzle), any(), any())).thenReturn(singletonList(element));
+
+    List<WebElement> elements = selector.findElements(webdriver, By.cssSelector("div:first"));
+
+    assertEquals(singletonList(element), elements);
+    verify(webdriver, times(1)).executeScript(anyString(), any(), any());
+  }
+
+  @Test
+  public void injectsSizzleAndFindsElementsInTheSameCall() {
+    when(webdriver.executeScript(eq(jsCodeToFindBySizzle), any(), any())).thenReturn(false);
+    when(webdriver.executeScript(eq("/* sizzle */;\n" + jsCodeToFindBySizzle), any(), any()))
+        .thenReturn(singletonList(element));
+
+    List<WebElement> elements = selector.findElements(webdriver, By.cssSelector("div:first"));
+
+    assertEquals(singletonList(element), elements);
+    verify(webdriver).executeScript(eq("/* sizzle */;\n" + jsCodeToFindBySizzle), eq("div:first"), isNull());
+  }
+}
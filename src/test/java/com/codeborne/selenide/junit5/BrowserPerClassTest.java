@@ -0,0 +1,75 @@
+package com.codeborne.selenide.junit5;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.impl.WebDriverContainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class BrowserPerClassTest {
+  WebDriverContainer originalContainer = WebDriverRunner.webdriverContainer;
+  WebDriverContainer container = mock(WebDriverContainer.class);
+  WebDriver webDriver = mock(WebDriver.class);
+  Map<Object, Object> classStore = new HashMap<>();
+  ExtensionContext classContext = mock(ExtensionContext.class);
+  ExtensionContext testContext = mock(ExtensionContext.class);
+  BrowserPerClass extension = new BrowserPerClass();
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    WebDriverRunner.webdriverContainer = container;
+    doReturn(webDriver).when(container).getWebDriver();
+
+    ExtensionContext.Store store = mock(ExtensionContext.Store.class);
+    doAnswer(i -> classStore.computeIfAbsent(i.getArgument(0), i.<Function<Object, Object>>getArgument(1)))
+        .when(store).getOrComputeIfAbsent(any(), any(Function.class), any(Class.class));
+    doReturn(store).when(classContext).getStore(any());
+    doReturn(Optional.of(classContext)).when(testContext).getParent();
+  }
+
+  @After
+  public void tearDown() {
+    WebDriverRunner.webdriverContainer = originalContainer;
+  }
+
+  @Test
+  public void nextTestGetsBrowserOfPreviousTest() {
+    extension.beforeEach(testContext);
+    doReturn(true).when(container).hasWebDriverStarted();
+    extension.afterEach(testContext);
+    verify(container).detachWebDriver();
+
+    doReturn(false).when(container).hasWebDriverStarted();
+    extension.beforeEach(testContext);
+
+    verify(container).attachWebDriver(eq(webDriver), any());
+    verify(container, never()).closeWebDriver(any(), any());
+  }
+
+  @Test
+  public void closesBrowsersWhenClassContextIsClosed() throws Throwable {
+    extension.beforeEach(testContext);
+    doReturn(true).when(container).hasWebDriverStarted();
+    extension.afterEach(testContext);
+
+    ((ExtensionContext.Store.CloseableResource) classStore.values().iterator().next()).close();
+
+    verify(container).closeWebDriver(eq(webDriver), any());
+  }
+}
@@ -0,0 +1,103 @@
+package com.codeborne.selenide.junit5;
+
+import com.codeborne.selenide.Screenshots;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.ex.ElementNotFound;
+import com.codeborne.selenide.impl.ScreenShotLaboratory;
+import com.codeborne.selenide.impl.WebDriverContainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ScreenShooterExtensionTest {
+  ScreenShotLaboratory originalScreenshots = Screenshots.screenshots;
+  WebDriverContainer originalContainer = WebDriverRunner.webdriverContainer;
+  ScreenShotLaboratory screenshots = mock(ScreenShotLaboratory.class);
+  Map<Object, Object> testStore = new HashMap<>();
+  ExtensionContext testContext = mock(ExtensionContext.class);
+  ScreenShooterExtension extension = new ScreenShooterExtension();
+
+  @Before
+  public void setUp() throws NoSuchMethodException {
+    Screenshots.screenshots = screenshots;
+    WebDriverRunner.webdriverContainer = mock(WebDriverContainer.class);
+    doReturn(true).when(WebDriverRunner.webdriverContainer).hasWebDriverStarted();
+
+    ExtensionContext.Store store = mock(ExtensionContext.Store.class);
+    doAnswer(i -> testStore.put(i.getArgument(0), i.getArgument(1))).when(store).put(any(), any());
+    doAnswer(i -> testStore.get(i.getArgument(0))).when(store).get(any(), any());
+    doReturn(store).when(testContext).getStore(any());
+    doReturn(LoginTest.class).when(testContext).getRequiredTestClass();
+    doReturn(Optional.of(LoginTest.class.getMethod("login"))).when(testContext).getTestMethod();
+    doReturn(Optional.empty()).when(testContext).getExecutionException();
+  }
+
+  @After
+  public void tearDown() {
+    Screenshots.screenshots = originalScreenshots;
+    WebDriverRunner.webdriverContainer = originalContainer;
+  }
+
+  @Test
+  public void takesScreenshotIfTestFails() {
+    doReturn(Optional.of(new IllegalStateException("failed"))).when(testContext).getExecutionException();
+
+    extension.beforeTestExecution(testContext);
+    extension.afterTestExecution(testContext);
+
+    verify(screenshots).startContext(LoginTest.class.getName(), "login");
+    verify(screenshots).takeScreenShot(LoginTest.class.getName(), "login");
+    verify(screenshots).finishContext();
+  }
+
+  @Test
+  public void doesNotTakeScreenshotIfSelenideCheckHasAlreadyTakenIt() {
+    doReturn(Optional.of(mock(ElementNotFound.class))).when(testContext).getExecutionException();
+
+    extension.beforeTestExecution(testContext);
+    extension.afterTestExecution(testContext);
+
+    verify(screenshots, never()).takeScreenShot(anyString(), anyString());
+  }
+
+  @Test
+  public void takesScreenshotOfSucceededTestsIfRequested() {
+    extension.succeededTests().beforeTestExecution(testContext);
+    extension.afterTestExecution(testContext);
+
+    verify(screenshots).takeScreenShot(LoginTest.class.getName(), "login");
+  }
+
+  @Test
+  public void keepsScreenshotsOfTestInItsStore() {
+    assertEquals(emptyList(), ScreenShooterExtension.screenshots(testContext));
+    doReturn(asList(new File("login.png"))).when(screenshots).finishContext();
+
+    extension.beforeTestExecution(testContext);
+    extension.afterTestExecution(testContext);
+
+    assertEquals(asList(new File("login.png")), ScreenShooterExtension.screenshots(testContext));
+  }
+
+  public static class LoginTest {
+    public void login() {
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.codeborne.selenide.junit5;
+
+import com.codeborne.selenide.ex.SoftAssertionError;
+import com.codeborne.selenide.logevents.ErrorsCollector;
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.SelenideLog;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.codeborne.selenide.logevents.ErrorsCollector.LISTENER_SOFT_ASSERT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class SoftAssertsExtensionTest {
+  Map<Object, Object> testStore = new HashMap<>();
+  ExtensionContext testContext = mock(ExtensionContext.class);
+  SoftAssertsExtension extension = new SoftAssertsExtension();
+
+  @Before
+  public void setUp() {
+    ExtensionContext.Store store = mock(ExtensionContext.Store.class);
+    doAnswer(i -> testStore.put(i.getArgument(0), i.getArgument(1))).when(store).put(any(), any());
+    doAnswer(i -> testStore.get(i.getArgument(0))).when(store).get(any(), any());
+    doAnswer(i -> testStore.remove(i.getArgument(0))).when(store).remove(any(), any());
+    doReturn(store).when(testContext).getStore(any());
+    doReturn("loginTest()").when(testContext).getDisplayName();
+  }
+
+  @Test
+  public void collectsErrorsOfTestMethodEvenIfCallbacksAreCalledByDifferentThreads() throws InterruptedException {
+    extension.beforeEach(testContext);
+    assertTrue(SelenideLogger.hasGlobalListener(LISTENER_SOFT_ASSERT));
+
+    Thread testMethod = new Thread(() -> {
+      extension.beforeTestExecution(testContext);
+      failedCheck("#login");
+      extension.afterTestExecution(testContext);
+    });
+    testMethod.start();
+    testMethod.join();
+
+    try {
+      extension.afterEach(testContext);
+      fail("expected SoftAssertionError");
+    }
+    catch (SoftAssertionError expected) {
+      assertEquals("java.lang.AssertionError: #login is not visible", expected.getMessage());
+    }
+  }
+
+  @Test
+  public void ignoresChecksOfOtherThreads() {
+    extension.beforeEach(testContext);
+    extension.beforeTestExecution(testContext);
+    extension.afterTestExecution(testContext);
+
+    failedCheck("#logout");
+
+    extension.afterEach(testContext);
+  }
+
+  @Test
+  public void errorsCollectorIsKeptInTestStore() {
+    extension.beforeEach(testContext);
+
+    assertTrue(testStore.get(ErrorsCollector.class) instanceof ErrorsCollector);
+
+    extension.afterEach(testContext);
+    assertTrue(testStore.isEmpty());
+  }
+
+  @Test
+  public void globalListenerIsRemovedAfterLastRunningTest() {
+    ExtensionContext.Store otherTestStore = mock(ExtensionContext.Store.class);
+    doReturn(new ErrorsCollector()).when(otherTestStore).remove(any(), any());
+    ExtensionContext otherTestContext = mock(ExtensionContext.class);
+    doReturn(otherTestStore).when(otherTestContext).getStore(any());
+
+    extension.beforeEach(testContext);
+    extension.beforeEach(otherTestContext);
+    extension.afterEach(testContext);
+    assertTrue(SelenideLogger.hasGlobalListener(LISTENER_SOFT_ASSERT));
+
+    extension.afterEach(otherTestContext);
+    assertFalse(SelenideLogger.hasGlobalListener(LISTENER_SOFT_ASSERT));
+  }
+
+  private void failedCheck(String element) {
+    SelenideLog log = SelenideLogger.beginStep(element, "should be visible");
+    SelenideLogger.commitStep(log, new AssertionError(element + " is not visible"));
+    assertEquals(LogEvent.EventStatus.FAIL, log.getStatus());
+  }
+}
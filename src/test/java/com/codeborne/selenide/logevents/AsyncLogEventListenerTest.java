@@ -0,0 +1,179 @@
+package com.codeborne.selenide.logevents;
+
+import com.codeborne.selenide.logevents.AsyncLogEventListener.OverflowPolicy;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncLogEventListenerTest {
+  List<String> received = new CopyOnWriteArrayList<>();
+  List<String> threads = new CopyOnWriteArrayList<>();
+  CountDownLatch listenerIsReleased = new CountDownLatch(1);
+
+  LogEventListener slowListener = event -> {
+    try {
+      listenerIsReleased.await();
+    }
+    catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+    received.add(event.getSubject());
+    threads.add(Thread.currentThread().getName());
+  };
+
+  @After
+  public void tearDown() {
+    SelenideLogger.removeAllListeners();
+  }
+
+  @Test
+  public void deliversEventsInOrderOnSeparateThread() {
+    AsyncLogEventListener listener = new AsyncLogEventListener(slowListener);
+    listener.onEvent(step("open", PASS));
+    listener.onEvent(step("click", PASS));
+    assertEquals(0, received.size());
+
+    listenerIsReleased.countDown();
+    assertTrue(listener.flush());
+
+    assertEquals(asList("open", "click"), received);
+    assertNotEquals(Thread.currentThread().getName(), threads.get(0));
+    listener.close();
+  }
+
+  @Test
+  public void dropsNewEventsWhenQueueIsFull() {
+    AsyncLogEventListener listener = new AsyncLogEventListener(slowListener, 2, OverflowPolicy.DROP);
+    List<String> sent = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      listener.onEvent(step("step " + i, PASS));
+      sent.add("step " + i);
+    }
+
+    listenerIsReleased.countDown();
+    listener.close();
+
+    assertTrue(listener.getDroppedEvents() > 0);
+    assertEquals(10, received.size() + listener.getDroppedEvents());
+    assertTrue(sent.containsAll(received));
+  }
+
+  @Test
+  public void samplingNeverDropsFailures() {
+    AsyncLogEventListener listener = new AsyncLogEventListener(slowListener, 4, OverflowPolicy.SAMPLE, 100);
+    listener.onEvent(step("step 1", PASS));
+    listener.onEvent(step("step 2", PASS));
+    listener.onEvent(step("step 3", PASS));
+    listener.onEvent(step("step 4", PASS));
+    listener.onEvent(step("failure", FAIL));
+
+    listenerIsReleased.countDown();
+    listener.close();
+
+    assertTrue(listener.getDroppedEvents() > 0);
+    assertEquals("failure", received.get(received.size() - 1));
+  }
+
+  @Test
+  public void listenerErrorDoesNotStopDelivery() {
+    LogEventListener failingListener = event -> {
+      if ("broken".equals(event.getSubject())) throw new AssertionError("listener failure");
+      received.add(event.getSubject());
+    };
+    AsyncLogEventListener listener = new AsyncLogEventListener(failingListener, 1, OverflowPolicy.BLOCK);
+    listener.onEvent(step("broken", PASS));
+    listener.onEvent(step("click", PASS));
+    listener.onEvent(step("submit", PASS));
+
+    listener.close();
+
+    assertEquals(asList("click", "submit"), received);
+  }
+
+  @Test
+  public void removingListenerFlushesItsEvents() {
+    SelenideLogger.addListener("async", new AsyncLogEventListener(slowListener));
+    SelenideLogger.commitStep(SelenideLogger.beginStep("#button", "click"), PASS);
+    listenerIsReleased.countDown();
+
+    AsyncLogEventListener removed = SelenideLogger.removeListener("async");
+
+    assertEquals(asList("click"), received);
+    assertEquals(0, removed.getDroppedEvents());
+  }
+
+  @Test
+  public void closingWaitsForListenerWithoutInterruptingIt() {
+    List<Boolean> interrupted = new CopyOnWriteArrayList<>();
+    AsyncLogEventListener listener = new AsyncLogEventListener(event -> {
+      try {
+        Thread.sleep(200);
+        interrupted.add(false);
+      }
+      catch (InterruptedException e) {
+        interrupted.add(true);
+      }
+    });
+    listener.onEvent(step("click", PASS));
+
+    listener.close();
+
+    assertEquals(asList(false), interrupted);
+  }
+
+  @Test
+  public void eventsSentWhileClosingAreNotLost() throws InterruptedException {
+    AsyncLogEventListener listener = new AsyncLogEventListener(event -> received.add(event.getSubject()), 1, OverflowPolicy.BLOCK);
+    List<String> sent = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      sent.add("step " + i);
+    }
+    Thread test = new Thread(() -> sent.forEach(subject -> listener.onEvent(step(subject, PASS))));
+    test.start();
+
+    listener.close();
+    test.join();
+
+    assertEquals(sent, received);
+    assertEquals(0, listener.getDroppedEvents());
+  }
+
+  @Test
+  public void listenerSharedByThreadsIsClosedWhenRemovedByAllOfThem() throws InterruptedException {
+    AsyncLogEventListener listener = new AsyncLogEventListener(slowListener);
+    listenerIsReleased.countDown();
+    SelenideLogger.addListener("async", listener);
+    Thread otherThread = new Thread(() -> {
+      SelenideLogger.addListener("async", listener);
+      SelenideLogger.removeListener("async");
+    });
+    otherThread.start();
+    otherThread.join();
+
+    listener.onEvent(step("open", PASS));
+    assertTrue(listener.flush());
+    assertNotEquals(Thread.currentThread().getName(), threads.get(0));
+
+    SelenideLogger.removeListener("async");
+    listener.onEvent(step("click", PASS));
+    assertEquals(asList("open", "click"), received);
+    assertEquals(Thread.currentThread().getName(), threads.get(1));
+  }
+
+  private LogEvent step(String subject, LogEvent.EventStatus status) {
+    SelenideLog log = new SelenideLog("#element", subject);
+    log.setStatus(status);
+    return log;
+  }
+}
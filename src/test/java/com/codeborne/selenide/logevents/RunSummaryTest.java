@@ -0,0 +1,96 @@
+package com.codeborne.selenide.logevents;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RunSummaryTest {
+  RunSummary summary = new RunSummary(2);
+
+  @After
+  public void tearDown() {
+    SelenideLogger.removeAllListeners();
+  }
+
+  @Test
+  public void mergesStepsOfTestsRunInParallelThreads() throws InterruptedException {
+    Thread first = new Thread(() -> runTest("login", "click", "set value(john)"));
+    Thread second = new Thread(() -> runTest("logout", "click", "should have(text 'Bye')"));
+    first.start();
+    second.start();
+    first.join();
+    second.join();
+
+    String report = summary.generateReport();
+
+    assertTrue(report, report.startsWith("Run summary: 2 tests, 4 steps, 0 failed steps"));
+    assertTrue(report, report.contains("steps  login"));
+    assertTrue(report, report.contains("steps  logout"));
+    assertTrue(report, report.contains("click                         |2         |"));
+    assertTrue(report, report.contains("set value                     |1         |"));
+    assertTrue(report, report.contains("should have                   |1         |"));
+  }
+
+  @Test
+  public void countsOnlyStepsBetweenStartAndFinishOfTest() {
+    SelenideLogger.commitStep(SelenideLogger.beginStep("#before", "click()"), PASS);
+    summary.testStarted("login");
+    SelenideLogger.commitStep(SelenideLogger.beginStep("#login", "click()"), FAIL);
+    summary.testFinished();
+    SelenideLogger.commitStep(SelenideLogger.beginStep("#after", "click()"), PASS);
+
+    String report = summary.generateReport();
+
+    assertTrue(report, report.startsWith("Run summary: 1 tests, 1 steps, 1 failed steps"));
+    assertFalse(report, report.contains("#before"));
+    assertFalse(report, report.contains("#after"));
+  }
+
+  @Test
+  public void hasStepsOnlyIfSomeFinishedTestHasSteps() {
+    assertFalse(summary.hasSteps());
+
+    summary.testStarted("empty");
+    summary.testFinished();
+    assertFalse(summary.hasSteps());
+
+    summary.testStarted("login");
+    SelenideLogger.commitStep(SelenideLogger.beginStep("#login", "click()"), PASS);
+    assertFalse(summary.hasSteps());
+    summary.testFinished();
+    assertTrue(summary.hasSteps());
+  }
+
+  @Test
+  public void extractsCommandNameFromSubject() {
+    assertEquals("set value", RunSummary.commandName("set value(john)"));
+    assertEquals("click", RunSummary.commandName("click()"));
+    assertEquals("open", RunSummary.commandName("open"));
+  }
+
+  @Test
+  public void calculatesNearestRankPercentiles() {
+    RunSummary.Durations durations = new RunSummary.Durations();
+    for (long i = 100; i >= 1; i--) {
+      durations.add(i);
+    }
+    durations.sort();
+
+    assertEquals(50, durations.percentile(50));
+    assertEquals(90, durations.percentile(90));
+    assertEquals(100, durations.percentile(100));
+  }
+
+  private void runTest(String title, String... subjects) {
+    summary.testStarted(title);
+    for (String subject : subjects) {
+      SelenideLogger.commitStep(SelenideLogger.beginStep("#" + title, subject), PASS);
+    }
+    summary.testFinished();
+  }
+}
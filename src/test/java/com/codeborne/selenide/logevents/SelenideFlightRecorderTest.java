@@ -0,0 +1,59 @@
+package com.codeborne.selenide.logevents;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SelenideFlightRecorderTest {
+  private final SelenideFlightRecorder.Recorder originalRecorder = SelenideFlightRecorder.recorder;
+
+  @After
+  public void tearDown() {
+    SelenideFlightRecorder.recorder = originalRecorder;
+  }
+
+  @Test
+  public void doesNothingIfFlightRecordingIsNotStarted() {
+    SelenideFlightRecorder.recorder = SelenideFlightRecorder.createRecorder();
+
+    FlightRecording recording = SelenideFlightRecorder.beginStep("#login", "click()");
+
+    assertThat(recording, sameInstance(FlightRecording.NONE));
+    recording.status("PASS").polling(new WaitStatistics()).commit();
+  }
+
+  @Test
+  public void usesJdkEventsIfJvmSupportsFlightRecorder() {
+    assertThat(SelenideFlightRecorder.createRecorder().getClass().getName(), is(jfrIsSupported() ?
+        "com.codeborne.selenide.logevents.JdkFlightRecorder" : SelenideFlightRecorder.NoRecorder.class.getName()));
+  }
+
+  @Test
+  public void selenideLogCommitsStepRecording() {
+    SelenideFlightRecorder.recorder = mock(SelenideFlightRecorder.Recorder.class);
+    FlightRecording recording = mock(FlightRecording.class);
+    when(SelenideFlightRecorder.recorder.beginStep("#login", "click()")).thenReturn(recording);
+    when(recording.status("PASS")).thenReturn(recording);
+
+    SelenideLogger.commitStep(SelenideLogger.beginStep("#login", "click()"), LogEvent.EventStatus.PASS);
+
+    verify(recording).status("PASS");
+    verify(recording).commit();
+  }
+
+  private boolean jfrIsSupported() {
+    try {
+      Class.forName("jdk.jfr.Event");
+      return true;
+    }
+    catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+}
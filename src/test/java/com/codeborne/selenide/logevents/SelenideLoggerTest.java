@@ -91,4 +91,36 @@ public class SelenideLoggerTest {
     assertThat(value.getSubject(), equalTo("click()"));
     assertThat(value.getStatus(), equalTo(PASS));
   }
+
+  @Test
+  public void globalListenersReceiveEventsFromAllThreads() throws InterruptedException {
+    LogEventListener threadListener = mock(LogEventListener.class);
+    LogEventListener globalListener = mock(LogEventListener.class);
+    SelenideLogger.addListener("thread", threadListener);
+    SelenideLogger.addGlobalListener("global", globalListener);
+    try {
+      SelenideLogger.commitStep(SelenideLogger.beginStep("#main", "click"), PASS);
+      Thread anotherThread = new Thread(() -> SelenideLogger.commitStep(SelenideLogger.beginStep("#other", "click"), PASS));
+      anotherThread.start();
+      anotherThread.join();
+    }
+    finally {
+      SelenideLogger.removeListener("thread");
+      assertThat(SelenideLogger.removeGlobalListener("global"), equalTo(globalListener));
+    }
+
+    verify(threadListener, times(1)).onEvent(any(LogEvent.class));
+    verify(globalListener, times(2)).onEvent(any(LogEvent.class));
+  }
+
+  @Test
+  public void removedGlobalListenerIsNotNotified() {
+    LogEventListener globalListener = mock(LogEventListener.class);
+    SelenideLogger.addGlobalListener("global", globalListener);
+    SelenideLogger.removeGlobalListener("global");
+
+    SelenideLogger.commitStep(SelenideLogger.beginStep("#main", "click"), PASS);
+
+    verify(globalListener, never()).onEvent(any(LogEvent.class));
+  }
 }
@@ -2,6 +2,8 @@ package com.codeborne.selenide.logevents;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+
 public class SimpleReportTest {
 
   @Test
@@ -9,4 +11,25 @@ public class SimpleReportTest {
     new SimpleReport().finish("test");
   }
 
+  @Test
+  public void summarizesWaitStatisticsOfAllSteps() {
+    SimpleReport.WaitSummary summary = new SimpleReport.WaitSummary();
+    summary.add(step(1, 0));
+    summary.add(step(3, 200));
+
+    assertEquals(2, summary.steps);
+    assertEquals(4, summary.attempts);
+    assertEquals(200, summary.sleepMs);
+    assertEquals(1, summary.retriedSteps);
+  }
+
+  private LogEvent step(int attempts, long sleepMs) {
+    SelenideLog log = new SelenideLog("#login", "click()");
+    for (int i = 0; i < attempts; i++) {
+      log.getWaitStatistics().attemptStarted();
+      log.getWaitStatistics().attemptFinished();
+    }
+    log.getWaitStatistics().slept(sleepMs);
+    return log;
+  }
 }
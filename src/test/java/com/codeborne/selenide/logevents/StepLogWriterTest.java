@@ -0,0 +1,75 @@
+package com.codeborne.selenide.logevents;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StepLogWriterTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void writesStepsThatCanBeReadBack() throws IOException {
+    File file = new File(folder.newFolder(), "steps.jsonl");
+    StepLogWriter writer = new StepLogWriter(file);
+    writer.onEvent(step("#login", "click()", PASS, 3, 200));
+    writer.onEvent(step("#password", "should have(text \"secret\")", FAIL, 1, 0));
+    writer.close();
+
+    List<LogEvent> steps = new ArrayList<>();
+    StepLogReader.read(file).forEach(steps::add);
+
+    assertEquals(2, steps.size());
+    assertEquals("#login", steps.get(0).getElement());
+    assertEquals("click()", steps.get(0).getSubject());
+    assertEquals(PASS, steps.get(0).getStatus());
+    assertEquals(3, steps.get(0).getWaitStatistics().getAttempts());
+    assertEquals(200, steps.get(0).getWaitStatistics().getSleepMs());
+    assertEquals("should have(text \"secret\")", steps.get(1).getSubject());
+    assertEquals(FAIL, steps.get(1).getStatus());
+  }
+
+  @Test
+  public void keepsSummaryOfWrittenSteps() throws IOException {
+    StepLogWriter writer = new StepLogWriter(new File(folder.newFolder(), "steps.jsonl"));
+    writer.onEvent(step("#login", "click()", PASS, 3, 200));
+    writer.onEvent(step("#login", "click()", PASS, 1, 0));
+    writer.close();
+
+    assertTrue(writer.getSummary(), writer.getSummary().startsWith("Total: 2 steps"));
+  }
+
+  @Test
+  public void reportCanBeGeneratedFromFile() throws IOException {
+    File file = new File(folder.newFolder(), "steps.jsonl");
+    StepLogWriter writer = new StepLogWriter(file);
+    writer.onEvent(step("#login", "click()", PASS, 1, 0));
+    writer.close();
+
+    String report = new SimpleReport().generateReport("test", StepLogReader.read(file));
+
+    assertTrue(report, report.startsWith("Report for test\n"));
+    assertTrue(report, report.contains("|#login              |click()"));
+  }
+
+  private LogEvent step(String element, String subject, LogEvent.EventStatus status, int attempts, long sleepMs) {
+    SelenideLog log = new SelenideLog(element, subject);
+    for (int i = 0; i < attempts; i++) {
+      log.getWaitStatistics().attemptStarted();
+      log.getWaitStatistics().attemptFinished();
+    }
+    log.getWaitStatistics().slept(sleepMs);
+    log.setStatus(status);
+    return log;
+  }
+}
@@ -0,0 +1,81 @@
+package com.codeborne.selenide.logevents;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+
+public class WaitStatisticsTest {
+  @Test
+  public void countsAttemptsAndSleepTime() {
+    WaitStatistics statistics = new WaitStatistics();
+
+    statistics.attemptStarted();
+    statistics.attemptFinished();
+    statistics.slept(100);
+    statistics.attemptStarted();
+    statistics.attemptFinished();
+    statistics.succeeded();
+
+    assertEquals(2, statistics.getAttempts());
+    assertEquals(100, statistics.getSleepMs());
+    assertTrue(statistics.getSucceededAtMs() >= 0);
+  }
+
+  @Test
+  public void customLogEventsHaveEmptyStatistics() {
+    LogEvent event = mock(LogEvent.class, CALLS_REAL_METHODS);
+
+    WaitStatistics statistics = event.getWaitStatistics();
+
+    assertEquals(0, statistics.getAttempts());
+    assertEquals(0, statistics.getSleepMs());
+    assertEquals(-1, statistics.getSucceededAtMs());
+  }
+
+  @Test
+  public void succeededAtIsNegative_ifCommandNeverSucceeded() {
+    WaitStatistics statistics = new WaitStatistics();
+    statistics.attemptStarted();
+    statistics.attemptFinished();
+
+    assertEquals(-1, statistics.getSucceededAtMs());
+  }
+
+  @Test
+  public void conditionTimeIsReportedToStatisticsBoundToCurrentThread() throws InterruptedException {
+    WaitStatistics outer = new WaitStatistics();
+    WaitStatistics inner = new WaitStatistics();
+
+    WaitStatistics previous = outer.bind();
+    WaitStatistics outerPrevious = inner.bind();
+    long start = System.nanoTime();
+    Thread.sleep(5);
+    WaitStatistics.conditionEvaluated(start);
+    WaitStatistics.restore(outerPrevious);
+    WaitStatistics.restore(previous);
+
+    assertTrue(inner.getConditionMs() >= 5);
+    assertEquals(0, outer.getConditionMs());
+  }
+
+  @Test
+  public void conditionTimeIsIgnored_ifNoStatisticsAreBound() {
+    WaitStatistics.conditionEvaluated(System.nanoTime());
+  }
+
+  @Test
+  public void driverTimeExcludesConditionTime() throws InterruptedException {
+    WaitStatistics statistics = new WaitStatistics();
+    statistics.attemptStarted();
+    long conditionStart = System.nanoTime();
+    Thread.sleep(5);
+    statistics.addConditionTime(conditionStart);
+    statistics.attemptFinished();
+
+    assertTrue(statistics.getConditionMs() >= 5);
+    assertTrue(statistics.getDriverMs() < 5);
+  }
+}
@@ -0,0 +1,40 @@
+package com.codeborne.selenide.proxy;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpResponse;
+import org.junit.Test;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static org.junit.Assert.assertEquals;
+
+public class ContentSizeCounterTest {
+  ContentSizeCounter counter = new ContentSizeCounter(10);
+
+  @Test
+  public void countsContentChunkByChunk() {
+    assertEquals(-1, counter.tooLarge(new DefaultHttpResponse(HTTP_1_1, OK)));
+    assertEquals(-1, counter.tooLarge(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[6]))));
+    assertEquals(-1, counter.tooLarge(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[6]))));
+    assertEquals(15, counter.tooLarge(new DefaultLastHttpContent(Unpooled.wrappedBuffer(new byte[3]))));
+  }
+
+  @Test
+  public void smallMessageIsNotReported() {
+    assertEquals(-1, counter.tooLarge(new DefaultHttpResponse(HTTP_1_1, OK)));
+    assertEquals(-1, counter.tooLarge(new DefaultLastHttpContent(Unpooled.wrappedBuffer(new byte[10]))));
+  }
+
+  @Test
+  public void trustsContentLengthHeader() {
+    HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+    response.headers().set("Content-Length", "2048");
+
+    assertEquals(2048, counter.tooLarge(response));
+    assertEquals(-1, counter.tooLarge(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[20]))));
+    assertEquals(-1, counter.tooLarge(new DefaultLastHttpContent(Unpooled.wrappedBuffer(new byte[20]))));
+  }
+}
@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
 import static org.apache.commons.io.FileUtils.readFileToByteArray;
 import static org.hamcrest.CoreMatchers.is;
@@ -110,6 +111,35 @@ public class FileDownloadFilterTest {
     assertThat(readFileToByteArray(file), is(new byte[]{1, 2, 3, 4, 5}));
   }
 
+  @Test
+  public void waitsUntilFileIsDownloaded() throws InterruptedException {
+    filter.activate();
+    mockStatusCode(200, "200=success");
+    mockHeaders().add("content-disposition", "attachement; filename=report.pdf");
+    when(contents.getBinaryContents()).thenReturn(new byte[]{1, 2, 3});
+
+    Thread proxyThread = new Thread(() -> filter.filterResponse(response, contents, messageInfo));
+    proxyThread.start();
+
+    List<File> files = filter.waitForDownloads(1, file -> true, 10000);
+    assertThat(files.size(), is(1));
+    assertThat(files.get(0).getName(), is("report.pdf"));
+    proxyThread.join();
+  }
+
+  @Test
+  public void returnsOnlyFilesMatchingFilter_orLessFilesAfterTimeout() {
+    filter.activate();
+    mockStatusCode(200, "200=success");
+    mockHeaders().add("content-disposition", "attachement; filename=report.pdf");
+    when(contents.getBinaryContents()).thenReturn(new byte[]{1, 2, 3});
+    filter.filterResponse(response, contents, messageInfo);
+
+    assertThat(filter.waitForDownloads(1, file -> file.getName().endsWith(".pdf"), 10).size(), is(1));
+    assertThat(filter.waitForDownloads(1, file -> file.getName().endsWith(".xls"), 10).size(), is(0));
+    assertThat(filter.waitForDownloads(2, file -> true, 10).size(), is(1));
+  }
+
   private HttpHeaders mockHeaders() {
     HttpHeaders headers = new DefaultHttpHeaders();
     when(response.headers()).thenReturn(headers);
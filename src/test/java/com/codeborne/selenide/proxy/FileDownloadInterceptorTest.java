@@ -0,0 +1,77 @@
+package com.codeborne.selenide.proxy;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.util.Attribute;
+import org.junit.Before;
+import org.junit.Test;
+import org.littleshoot.proxy.HttpFilters;
+
+import java.io.File;
+import java.io.IOException;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static org.apache.commons.io.FileUtils.readFileToByteArray;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class FileDownloadInterceptorTest {
+  FileDownloadFilter filter = new FileDownloadFilter();
+  FileDownloadInterceptor interceptor = new FileDownloadInterceptor(filter);
+  HttpRequest request = new DefaultHttpRequest(HTTP_1_1, GET, "http://localhost/reports/1");
+  ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+
+  @Before
+  public void setUp() {
+    doReturn(mock(Attribute.class)).when(ctx).attr(any());
+  }
+
+  @Test
+  public void doesNotFilterResponsesIfDownloadFilterIsNotActive() {
+    assertNull(interceptor.filterRequest(request, ctx));
+  }
+
+  @Test
+  public void savesDownloadedFileReadChunkByChunk() throws IOException {
+    filter.activate();
+    HttpFilters filters = interceptor.filterRequest(request, ctx);
+
+    HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+    response.headers().add("content-disposition", "attachement; filename=report.pdf");
+    filters.serverToProxyResponse(response);
+    filters.serverToProxyResponse(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[]{1, 2, 3})));
+    filters.serverToProxyResponse(new DefaultLastHttpContent(Unpooled.wrappedBuffer(new byte[]{4, 5})));
+
+    assertThat(filter.getDownloadedFiles().size(), is(1));
+    File file = filter.getDownloadedFiles().get(0);
+    assertThat(file.getName(), is("report.pdf"));
+    assertThat(readFileToByteArray(file), is(new byte[]{1, 2, 3, 4, 5}));
+  }
+
+  @Test
+  public void onlyCountsContentOfOtherResponses() {
+    filter.activate();
+    HttpFilters filters = interceptor.filterRequest(request, ctx);
+
+    HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+    response.headers().add("Content-Type", "text/html");
+    filters.serverToProxyResponse(response);
+    filters.serverToProxyResponse(new DefaultLastHttpContent(Unpooled.wrappedBuffer(new byte[]{1, 2, 3})));
+
+    assertThat(filter.getDownloadedFiles().size(), is(0));
+    assertThat(filter.getResponses(), is("Intercepted 1 responses." +
+        "\n  http://localhost/reports/1 -> 200 \"OK\" {Content-Type=text/html} text/html  (3 bytes)\n"));
+  }
+}
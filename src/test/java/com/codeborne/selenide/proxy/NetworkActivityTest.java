@@ -0,0 +1,55 @@
+package com.codeborne.selenide.proxy;
+
+import org.junit.Test;
+
+import static java.lang.System.currentTimeMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NetworkActivityTest {
+  NetworkActivity network = new NetworkActivity();
+
+  @Test
+  public void networkIsIdleAfterQuietPeriodWithoutRequests() {
+    long start = currentTimeMillis();
+    NetworkActivity network = new NetworkActivity();
+
+    assertTrue(network.waitForIdle(200, 4000));
+
+    assertTrue(currentTimeMillis() - start >= 200);
+  }
+
+  @Test
+  public void networkIsNotIdleWhileSomeRequestIsInFlight() {
+    network.requestStarted();
+    network.requestStarted();
+    network.requestFinished();
+
+    assertFalse(network.waitForIdle(10, 300));
+    assertEquals(1, network.getRequestsInFlight());
+  }
+
+  @Test
+  public void waitingThreadIsWokenUpWhenTheLastRequestIsFinished() throws InterruptedException {
+    network.requestStarted();
+    Thread server = new Thread(() -> {
+      try {
+        Thread.sleep(300);
+      }
+      catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      network.requestFinished();
+    });
+    server.start();
+    long start = currentTimeMillis();
+
+    assertTrue(network.waitForIdle(50, 4000));
+
+    long waited = currentTimeMillis() - start;
+    assertTrue("waited " + waited + " ms", waited >= 300 && waited < 2000);
+    assertEquals(0, network.getRequestsInFlight());
+    server.join();
+  }
+}
@@ -24,6 +24,11 @@ public class SelenideProxyServerTest {
 
     try {
       verify(bmp).setTrustAllServers(true);
+      verify(bmp).addFirstHttpFilterFactory(proxyServer.networkActivity());
+      verify(bmp).addFirstHttpFilterFactory(any(RequestSizeWatchdog.class));
+      verify(bmp).addLastHttpFilterFactory(any(ResponseSizeWatchdog.class));
+      verify(bmp).addLastHttpFilterFactory(any(FileDownloadInterceptor.class));
+      verify(bmp, never()).addResponseFilter(any());
       verify(bmp, never()).setChainedProxy(any(InetSocketAddress.class));
       verify(bmp).start();
       assertThat(proxyServer.createSeleniumProxy().getHttpProxy(), endsWith(":8888"));
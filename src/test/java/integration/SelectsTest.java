@@ -3,6 +3,7 @@ package integration;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
+import com.google.common.collect.ImmutableMap;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -10,6 +11,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.openqa.selenium.By;
 
+import java.util.Map;
+
 import static com.codeborne.selenide.Condition.*;
 import static com.codeborne.selenide.Selectors.byName;
 import static com.codeborne.selenide.Selenide.$;
@@ -171,4 +174,17 @@ public class SelectsTest extends IntegrationTest {
     $(By.xpath("//select[@name='domain']")).selectOptionByValue("myrambler.ru");
     $("#selectedDomain").shouldHave(text("@myrambler.ru"));
   }
+
+  @Test
+  public void fillFormSelectsOptionAndRadioButtonByValue() {
+    Map<String, String> failures = $("body").fillForm(ImmutableMap.of(
+        "[name=domain]", "rusmail.ru",
+        "[name=me]", "cat",
+        "[name=rememberMe]", "true"));
+
+    assertEquals(ImmutableMap.of("[name=rememberMe]", "Cannot set value of checkbox, use setSelected() instead"), failures);
+    $("#selectedDomain").shouldHave(text("@rusmail.ru"));
+    $("input[name=me][value=cat]").shouldBe(selected);
+    $("[name=rememberMe]").shouldNotBe(selected);
+  }
 }